@@ -0,0 +1,52 @@
+package com.example.JobApp.benchmark;
+
+import com.example.JobApp.service.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.concurrent.TimeUnit;
+
+// Tokens/sec for generate and validate, before (legacy*) and after (current*) precomputing the key and parser.
+// The legacy validate path is what JwtFilter used to do per request: extractUserName + validateToken.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+
+    private LegacyJwtService legacy;
+    private JwtService current;
+    private UserDetails user;
+    private String legacyToken;
+    private String currentToken;
+
+    @Setup
+    public void setUp() {
+        legacy = new LegacyJwtService();
+        current = new JwtService();
+        user = User.withUsername("demo").password("x").authorities("USER").build();
+        legacyToken = legacy.generateToken("demo");
+        currentToken = current.generateToken("demo");
+    }
+
+    @Benchmark
+    public String legacyGenerate() {
+        return legacy.generateToken("demo");
+    }
+
+    @Benchmark
+    public String currentGenerate() {
+        return current.generateToken("demo");
+    }
+
+    @Benchmark
+    public boolean legacyValidate() {
+        legacy.extractUserName(legacyToken);
+        return legacy.validateToken(legacyToken, user);
+    }
+
+    @Benchmark
+    public boolean currentValidate() {
+        return current.validateToken(current.verify(currentToken), user);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.JobApp.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Caffeine caches (W-TinyLFU eviction), sized and timed by spring.cache.caffeine.spec
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String JOBS = "jobs";
+
+}
@@ -1,5 +1,6 @@
 package com.example.JobApp.config;
 
+import com.example.JobApp.model.VerifiedToken;
 import com.example.JobApp.service.JwtService;
 import com.example.JobApp.service.MyUserDetailsService;
 import jakarta.servlet.FilterChain;
@@ -23,6 +24,8 @@ public class JwtFilter extends OncePerRequestFilter {
     @Autowired
     JwtService jwtService;
     @Autowired
+    JwtTokenCache tokenCache;
+    @Autowired
     ApplicationContext context;
 
     @Override
@@ -30,21 +33,32 @@ public class JwtFilter extends OncePerRequestFilter {
 
         String authHeader = request.getHeader("Authorization");
         String token = null;
-        String username = null;
+        VerifiedToken verified = null;
+        UserDetails cachedUser = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             token = authHeader.substring(7);
-            username = jwtService.extractUserName(token);
+            cachedUser = tokenCache.get(token);
+            if (cachedUser == null) verified = jwtService.verify(token);
         }
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = context.getBean(MyUserDetailsService.class).loadUserByUsername(username);
-            if (jwtService.validateToken(token, userDetails)) {
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            if (cachedUser != null) {
+                authenticate(request, cachedUser);
+            } else if (verified != null && verified.subject() != null) {
+                UserDetails userDetails = context.getBean(MyUserDetailsService.class).loadUserByUsername(verified.subject());
+                if (jwtService.validateToken(verified, userDetails)) {
+                    tokenCache.put(token, userDetails, verified.expiration());
+                    authenticate(request, userDetails);
+                }
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    private void authenticate(HttpServletRequest request, UserDetails userDetails) {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -0,0 +1,92 @@
+package com.example.JobApp.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Remembers tokens that already passed signature/expiry checks, keyed by the SHA-256 of the token,
+// so a repeated bearer token costs one hash lookup instead of JWS parsing plus a user lookup.
+// Each entry expires with its token; past jwt.cache.max-size Caffeine evicts the least likely to be reused.
+@Component
+public class JwtTokenCache {
+
+    private final Cache<String, Entry> entries;
+    private final int maxSize;
+
+    public JwtTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public UserDetails get(String token) {
+        Entry entry = entries.getIfPresent(hash(token));
+        return entry == null ? null : entry.userDetails;
+    }
+
+    public void put(String token, UserDetails userDetails, Date expiration) {
+        if (expiration.getTime() <= System.currentTimeMillis()) return;
+        entries.put(hash(token), new Entry(userDetails, expiration.getTime()));
+    }
+
+    public Map<String, Object> stats() {
+        entries.cleanUp();
+        CacheStats cacheStats = entries.stats();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", entries.estimatedSize());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", cacheStats.hitCount());
+        stats.put("misses", cacheStats.missCount());
+        stats.put("evictions", cacheStats.evictionCount());
+        stats.put("hitRatio", cacheStats.hitRate());
+        return stats;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record Entry(UserDetails userDetails, long expiresAt) {
+    }
+
+    // an entry lives until its token's exp claim, however often it is read or replaced
+    private static class TokenExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, entry.expiresAt - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
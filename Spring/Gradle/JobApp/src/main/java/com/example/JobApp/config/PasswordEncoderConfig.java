@@ -0,0 +1,84 @@
+package com.example.JobApp.config;
+
+import com.example.JobApp.service.PasswordHashMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+    private static final int CALIBRATION_WARMUPS = 3;
+    private static final int CALIBRATION_SAMPLES = 5;
+
+    @Value("${security.password.target-hash-millis:250}")
+    private long targetHashMillis;
+
+    @Value("${security.password.min-strength:10}")
+    private int minStrength;
+
+    @Value("${security.password.max-strength:14}")
+    private int maxStrength;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashMetrics metrics) {
+        TimedPasswordEncoder bcrypt = new TimedPasswordEncoder(calibrateStrength(), metrics);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        // passwords stored before the {bcrypt} prefix existed still verify, and get re-hashed on next login
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return encoder;
+    }
+
+    // Login and register run here instead of on Tomcat threads, so a login storm
+    // queues behind a few hashing threads and gets 503 once the queue is full.
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService passwordHashExecutor(@Value("${security.password.hash-threads:0}") int threads,
+                                                @Value("${security.password.hash-queue-capacity:100}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "password-hash-" + counter.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Each extra BCrypt round doubles the cost, so timing minStrength is enough to pick the highest
+    // strength that still fits the target hash time on this machine. The JIT is warmed up first and
+    // the median of several hashes is used, so one slow or lucky run at startup doesn't decide it.
+    private int calibrateStrength() {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        for (int i = 0; i < CALIBRATION_WARMUPS; i++) probe.encode("calibration");
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        double measured = Math.max(1.0, samples[samples.length / 2] / 1e6);
+
+        double millis = measured;
+        int strength = minStrength;
+        while (strength < maxStrength && millis * 2 <= targetHashMillis) {
+            millis *= 2;
+            strength++;
+        }
+        log.info("BCrypt strength {} (median hash {} ms at strength {})", strength, Math.round(measured), minStrength);
+        return strength;
+    }
+}
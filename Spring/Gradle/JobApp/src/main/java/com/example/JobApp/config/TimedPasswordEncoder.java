@@ -0,0 +1,54 @@
+package com.example.JobApp.config;
+
+import com.example.JobApp.service.PasswordHashMetrics;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+// BCrypt encoder that records how long each hash/verify took at the cost it actually ran with
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final PasswordHashMetrics metrics;
+
+    public TimedPasswordEncoder(int strength, PasswordHashMetrics metrics) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        String encoded = delegate.encode(rawPassword);
+        metrics.record(strength, System.nanoTime() - start);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long start = System.nanoTime();
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        metrics.record(costOf(encodedPassword), System.nanoTime() - start);
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    // "$2a$12$..." -> 12, anything unparsable is reported as cost 0
+    private static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7) return 0;
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
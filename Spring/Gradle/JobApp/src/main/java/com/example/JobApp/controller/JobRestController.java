@@ -1,10 +1,22 @@
 package com.example.JobApp.controller;
 
+import com.example.JobApp.model.BulkLoadResult;
+import com.example.JobApp.model.JobPage;
 import com.example.JobApp.model.JobPost;
+import com.example.JobApp.service.JobBulkLoader;
 import com.example.JobApp.service.JobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -15,11 +27,36 @@ public class JobRestController {
     @Autowired
     private JobService service;
 
+    @Autowired
+    private JobBulkLoader bulkLoader;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @GetMapping("/all")
     public List<JobPost> getAllJobs() {
         return service.getAllJobs();
     }
 
+    @GetMapping("/page")
+    public JobPage getJobsPage(@RequestParam(defaultValue = "0") int after, @RequestParam(required = false) Integer size) {
+        return service.getJobsPage(after, size);
+    }
+
+    // one JSON object per line, written while rows are read from the database
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllJobs() {
+        StreamingResponseBody body = out -> service.streamAllJobs(job -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(job));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok(body);
+    }
+
     @GetMapping("/{postId}")
     public JobPost getJob(@PathVariable("postId") int postId) {
         return service.getJob(postId);
@@ -30,16 +67,19 @@ public class JobRestController {
         return service.searchByKeyword(keyword);
     }
 
+    // both return what was written, no second read to echo the post back
     @PostMapping
     public JobPost addJob(@RequestBody JobPost jobPost) {
-        service.addJobPost(jobPost);
-        return service.getJob(jobPost.getPostId());
+        try {
+            return service.addJobPost(jobPost);
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Job post " + jobPost.getPostId() + " already exists");
+        }
     }
 
     @PutMapping
     public JobPost updateJob(@RequestBody JobPost jobPost) {
-        service.updateJob(jobPost);
-        return service.getJob(jobPost.getPostId());
+        return service.updateJob(jobPost);
     }
 
     @DeleteMapping("/{postId}")
@@ -53,5 +93,11 @@ public class JobRestController {
         service.load();
         return "Loaded Jobs";
     }
+
+    // body is a JSON array of job posts or NDJSON (one post per line), read as a stream
+    @PostMapping(value = "/bulk", consumes = {"application/json", "application/x-ndjson"})
+    public BulkLoadResult bulkLoad(InputStream body) throws IOException {
+        return bulkLoader.load(body);
+    }
 }
 
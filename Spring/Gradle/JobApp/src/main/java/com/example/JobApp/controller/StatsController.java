@@ -0,0 +1,61 @@
+package com.example.JobApp.controller;
+
+import com.example.JobApp.config.JwtTokenCache;
+import com.example.JobApp.service.PasswordHashMetrics;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequestMapping("stats")
+public class StatsController {
+
+    @Autowired
+    private JwtTokenCache tokenCache;
+
+    @Autowired
+    private PasswordHashMetrics passwordHashMetrics;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @GetMapping("/token-cache")
+    public Map<String, Object> tokenCacheStats() {
+        return tokenCache.stats();
+    }
+
+    // hit/miss/load-time per Spring cache (Caffeine, recordStats)
+    @GetMapping("/caches")
+    public Map<String, Map<String, Object>> cacheStats() {
+        Map<String, Map<String, Object>> caches = new TreeMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (!(cacheManager.getCache(name) instanceof CaffeineCache cache)) continue;
+            CacheStats stats = cache.getNativeCache().stats();
+
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("size", cache.getNativeCache().estimatedSize());
+            values.put("hits", stats.hitCount());
+            values.put("misses", stats.missCount());
+            values.put("hitRatio", stats.hitRate());
+            values.put("evictions", stats.evictionCount());
+            values.put("loads", stats.loadCount());
+            values.put("loadFailures", stats.loadFailureCount());
+            values.put("avgLoadMillis", stats.averageLoadPenalty() / 1e6);
+            caches.put(name, values);
+        }
+        return caches;
+    }
+
+    @GetMapping("/password-hash")
+    public Map<Integer, Map<String, Object>> passwordHashStats() {
+        return passwordHashMetrics.snapshot();
+    }
+}
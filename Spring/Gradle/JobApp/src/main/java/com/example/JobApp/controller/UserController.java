@@ -4,10 +4,18 @@ import com.example.JobApp.model.User;
 import com.example.JobApp.service.JwtService;
 import com.example.JobApp.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/auth")
@@ -22,19 +30,34 @@ public class UserController {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    @Qualifier("passwordHashExecutor")
+    private ExecutorService passwordHashExecutor;
+
+    // register and login both hash a password, so they run on the hashing pool and free the request thread
     @PostMapping("/register")
-    public User register(@RequestBody User user) {
+    public CompletableFuture<User> register(@RequestBody User user) {
 
-        return userService.saveUser(user);
+        return onHashPool(() -> userService.saveUser(user));
     }
 
     @PostMapping("/login")
-    public String login(@RequestBody User user) {
-        Authentication authentication = authenticationManager
-                .authenticate(new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword()));
+    public CompletableFuture<String> login(@RequestBody User user) {
+        return onHashPool(() -> {
+            Authentication authentication = authenticationManager
+                    .authenticate(new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword()));
+
+            if (authentication.isAuthenticated()) return jwtService.generateToken(user.getUsername());
+            else return "Login Failed";
+        });
+    }
 
-        if (authentication.isAuthenticated()) return jwtService.generateToken(user.getUsername());
-        else return "Login Failed";
+    private <T> CompletableFuture<T> onHashPool(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, passwordHashExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many login requests, try again later");
+        }
     }
 
     //api call to check
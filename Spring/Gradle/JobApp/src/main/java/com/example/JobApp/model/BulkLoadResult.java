@@ -0,0 +1,4 @@
+package com.example.JobApp.model;
+
+public record BulkLoadResult(int rows, long millis, double rowsPerSecond) {
+}
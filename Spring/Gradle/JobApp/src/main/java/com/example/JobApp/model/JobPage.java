@@ -0,0 +1,7 @@
+package com.example.JobApp.model;
+
+import java.util.List;
+
+// one keyset page of /job/page; pass nextCursor as "after" to get the next one, null means last page
+public record JobPage(List<JobPost> jobs, Integer nextCursor) {
+}
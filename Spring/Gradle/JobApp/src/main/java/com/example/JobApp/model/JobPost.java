@@ -6,6 +6,8 @@ import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -22,6 +24,7 @@ public class JobPost {
     private String postProfile;
     private String postDesc;
     private Integer reqExperience;
+    @JdbcTypeCode(SqlTypes.ARRAY)
     private List<String> postTechStack;
 
 }
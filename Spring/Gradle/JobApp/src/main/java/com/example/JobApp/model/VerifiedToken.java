@@ -0,0 +1,10 @@
+package com.example.JobApp.model;
+
+import java.util.Date;
+
+public record VerifiedToken(String subject, Date expiration, Date issuedAt) {
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.JobApp.repo;
+
+import com.example.JobApp.model.JobPost;
+
+public interface JobInsertRepo {
+
+    // INSERT without the SELECT that save() runs first for an assigned id
+    JobPost insert(JobPost jobPost);
+
+}
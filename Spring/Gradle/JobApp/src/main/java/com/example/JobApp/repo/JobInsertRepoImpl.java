@@ -0,0 +1,22 @@
+package com.example.JobApp.repo;
+
+import com.example.JobApp.model.JobPost;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Transactional;
+
+// JobPost ids are assigned by the client, so save() can't tell a new post from an existing one
+// and merges (SELECT then INSERT). persist() inserts straight away; a duplicate id fails on flush.
+public class JobInsertRepoImpl implements JobInsertRepo {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public JobPost insert(JobPost jobPost) {
+        entityManager.persist(jobPost);
+        entityManager.flush();
+        return jobPost;
+    }
+}
@@ -1,14 +1,31 @@
 package com.example.JobApp.repo;
 
 import com.example.JobApp.model.JobPost;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface JobRepo extends JpaRepository<JobPost, Integer> {
+public interface JobRepo extends JpaRepository<JobPost, Integer>, JobInsertRepo {
 
     List<JobPost> findByPostDescContainingOrPostProfileContaining(String keyword1, String keyword2);
 
-}
\ No newline at end of file
+    // keyset pagination: WHERE post_id > :postId ORDER BY post_id LIMIT :limit
+    List<JobPost> findByPostIdGreaterThanOrderByPostIdAsc(int postId, Limit limit);
+
+    // must be consumed inside a transaction; the fetch size makes the driver use a cursor instead of loading every row
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select j from JobPost j order by j.postId")
+    Stream<JobPost> streamAllByOrderByPostId();
+
+}
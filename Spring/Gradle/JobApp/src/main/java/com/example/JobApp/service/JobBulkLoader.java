@@ -0,0 +1,75 @@
+package com.example.JobApp.service;
+
+import com.example.JobApp.model.BulkLoadResult;
+import com.example.JobApp.model.JobPost;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// Imports a job feed given as a JSON array or as NDJSON. Posts are parsed one at a time
+// and inserted in batches, each batch in its own transaction, so memory stays bounded
+// by the batch size. persist() is used instead of save() so assigned ids do not trigger
+// a SELECT before every INSERT; with hibernate.jdbc.batch_size the INSERTs go out as JDBC batches.
+@Service
+public class JobBulkLoader {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JobSearchIndex searchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public JobBulkLoader(PlatformTransactionManager transactionManager, @Value("${job.bulk.batch-size:500}") int batchSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    // a failing batch (e.g. a duplicate postId) is rolled back and stops the load; earlier batches stay committed
+    public BulkLoadResult load(InputStream in) throws IOException {
+        long start = System.nanoTime();
+        int rows = 0;
+        List<JobPost> batch = new ArrayList<>(batchSize);
+
+        try (MappingIterator<JobPost> posts = objectMapper.readerFor(JobPost.class).readValues(in)) {
+            while (posts.hasNextValue()) {
+                batch.add(posts.nextValue());
+                if (batch.size() == batchSize) {
+                    rows += insert(batch);
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) rows += insert(batch);
+
+        long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        System.out.println("Bulk loaded " + rows + " job posts in " + millis + " ms");
+        return new BulkLoadResult(rows, millis, rows * 1000.0 / millis);
+    }
+
+    private int insert(List<JobPost> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            batch.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        });
+        batch.forEach(searchIndex::index);
+        return batch.size();
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.JobApp.service;
+
+import com.example.JobApp.model.JobPost;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+// In-memory inverted index over postProfile, postDesc and postTechStack.
+// Terms are lower-cased words; every query word matches a term exactly or as a prefix,
+// and a post has to match all query words. Results are ranked by field-weighted hits.
+// Only post ids are kept; callers load the posts for the ids they return.
+@Component
+public class JobSearchIndex {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final int PROFILE_WEIGHT = 3;
+    private static final int TECH_STACK_WEIGHT = 2;
+    private static final int DESC_WEIGHT = 1;
+    // an exact word match counts double compared to a prefix match
+    private static final int EXACT_BONUS = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Postings current = new Postings();
+    // set while rebuild() runs; index() and remove() go to both, and the rebuild skips ids they touched
+    private Postings next;
+    private Set<Integer> touched;
+
+    // adds a post, or replaces what was indexed for the same postId
+    public void index(JobPost jobPost) {
+        Map<String, Integer> terms = terms(jobPost);
+
+        lock.writeLock().lock();
+        try {
+            current.put(jobPost.getPostId(), terms);
+            if (next != null) {
+                next.put(jobPost.getPostId(), terms);
+                touched.add(jobPost.getPostId());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int postId) {
+        lock.writeLock().lock();
+        try {
+            current.remove(postId);
+            if (next != null) {
+                next.remove(postId);
+                touched.add(postId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // indexes everything the source hands over into a new index and swaps it in at the end,
+    // searches keep using the old one until then
+    public synchronized void rebuild(Consumer<Consumer<JobPost>> source) {
+        lock.writeLock().lock();
+        try {
+            next = new Postings();
+            touched = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            source.accept(jobPost -> {
+                Map<String, Integer> terms = terms(jobPost);
+                lock.writeLock().lock();
+                try {
+                    if (!touched.contains(jobPost.getPostId())) next.put(jobPost.getPostId(), terms);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+            lock.writeLock().lock();
+            try {
+                current = next;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                next = null;
+                touched = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.termsByPost.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ids of the matching posts, best match first
+    public List<Integer> search(String query) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty()) return new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Integer> scores = null;
+            for (String word : words) {
+                Map<Integer, Integer> wordScores = new HashMap<>();
+                for (Map.Entry<String, Map<Integer, Integer>> term : current.postings.subMap(word, true, word + Character.MAX_VALUE, false).entrySet()) {
+                    int bonus = term.getKey().equals(word) ? EXACT_BONUS : 1;
+                    term.getValue().forEach((postId, weight) -> wordScores.merge(postId, weight * bonus, Integer::sum));
+                }
+                if (scores == null) {
+                    scores = wordScores;
+                } else {
+                    scores.keySet().retainAll(wordScores.keySet());
+                    scores.replaceAll((postId, score) -> score + wordScores.get(postId));
+                }
+                if (scores.isEmpty()) return new ArrayList<>();
+            }
+
+            List<Map.Entry<Integer, Integer>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort(Map.Entry.<Integer, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            List<Integer> results = new ArrayList<>(ranked.size());
+            for (Map.Entry<Integer, Integer> entry : ranked) results.add(entry.getKey());
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> terms(JobPost jobPost) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, jobPost.getPostProfile(), PROFILE_WEIGHT);
+        addTerms(terms, jobPost.getPostDesc(), DESC_WEIGHT);
+        if (jobPost.getPostTechStack() != null) {
+            for (String tech : jobPost.getPostTechStack()) addTerms(terms, tech, TECH_STACK_WEIGHT);
+        }
+        return terms;
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String word : tokenize(text)) terms.merge(word, weight, Integer::sum);
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) return words;
+        for (String word : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) words.add(word);
+        }
+        return words;
+    }
+
+    private static class Postings {
+        // term -> (postId -> weight), sorted so prefix lookups are a subMap range
+        final NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+        final Map<Integer, Set<String>> termsByPost = new HashMap<>();
+
+        void put(int postId, Map<String, Integer> terms) {
+            remove(postId);
+            terms.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(postId, weight));
+            termsByPost.put(postId, terms.keySet());
+        }
+
+        void remove(int postId) {
+            Set<String> terms = termsByPost.remove(postId);
+            if (terms == null) return;
+            for (String term : terms) {
+                Map<Integer, Integer> postIds = postings.get(term);
+                postIds.remove(postId);
+                if (postIds.isEmpty()) postings.remove(term);
+            }
+        }
+    }
+}
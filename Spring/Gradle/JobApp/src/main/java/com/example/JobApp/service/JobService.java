@@ -1,46 +1,103 @@
 package com.example.JobApp.service;
 
 
+import com.example.JobApp.config.CacheConfig;
+import com.example.JobApp.model.JobPage;
 import com.example.JobApp.model.JobPost;
 import com.example.JobApp.repo.JobRepo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class JobService {
     @Autowired
     public JobRepo repo;
 
+    @Autowired
+    private JobSearchIndex searchIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${job.page.default-size:50}")
+    private int defaultPageSize = 50;
+
+    @Value("${job.page.max-size:500}")
+    private int maxPageSize = 500;
+
 
     //method to return all JobPosts
     public List<JobPost> getAllJobs() {
         return repo.findAll();
     }
 
+    // keyset page of posts with postId > after, size is capped at job.page.max-size
+    public JobPage getJobsPage(int after, Integer size) {
+        int pageSize = Math.min(size == null || size <= 0 ? defaultPageSize : size, maxPageSize);
+        List<JobPost> jobs = repo.findByPostIdGreaterThanOrderByPostIdAsc(after, Limit.of(pageSize));
+        Integer nextCursor = jobs.size() < pageSize ? null : jobs.get(jobs.size() - 1).getPostId();
+        return new JobPage(jobs, nextCursor);
+    }
+
+    // hands every post to the consumer one at a time, detaching each so memory stays flat for any table size
+    @Transactional(readOnly = true)
+    public void streamAllJobs(Consumer<JobPost> consumer) {
+        try (Stream<JobPost> jobs = repo.streamAllByOrderByPostId()) {
+            jobs.forEach(job -> {
+                consumer.accept(job);
+                entityManager.detach(job);
+            });
+        }
+    }
+
 
     // method to add a jobPost
-    public void addJobPost(JobPost jobPost) {
-        repo.save(jobPost);
+    @CacheEvict(value = CacheConfig.JOBS, key = "#jobPost.postId")
+    public JobPost addJobPost(JobPost jobPost) {
+        JobPost saved = repo.insert(jobPost);
+        searchIndex.index(saved);
+        return saved;
     }
 
 
+    // read-through: only a cache miss reaches the database, concurrent misses for one id load it once
+    @Cacheable(value = CacheConfig.JOBS, key = "#postId", sync = true)
     public JobPost getJob(int postId) {
 
         return repo.findById(postId).get();
     }
 
 
-    public void updateJob(JobPost jobPost) {
-        repo.save(jobPost);
+    @CacheEvict(value = CacheConfig.JOBS, key = "#jobPost.postId")
+    public JobPost updateJob(JobPost jobPost) {
+        JobPost saved = repo.save(jobPost);
+        searchIndex.index(saved);
+        return saved;
     }
 
+    @CacheEvict(value = CacheConfig.JOBS, key = "#postId")
     public void deleteJob(int postId) {
         repo.deleteById(postId);
+        searchIndex.remove(postId);
     }
 
+    @CacheEvict(value = CacheConfig.JOBS, allEntries = true)
     public void load() {
         // arrayList to store JobPost objects
         List<JobPost> jobs =
@@ -54,10 +111,29 @@ public class JobService {
                 ));
 
         repo.saveAll(jobs);
+        jobs.forEach(searchIndex::index);
 
     }
 
+    // ranked ids come from the index, only the first job.page.max-size posts are loaded
     public List<JobPost> searchByKeyword(String keyword) {
-        return repo.findByPostDescContainingOrPostProfileContaining(keyword, keyword);
+        List<Integer> ids = searchIndex.search(keyword);
+        if (ids.size() > maxPageSize) ids = ids.subList(0, maxPageSize);
+        Map<Integer, JobPost> posts = new HashMap<>();
+        for (JobPost post : repo.findAllById(ids)) posts.put(post.getPostId(), post);
+        List<JobPost> results = new ArrayList<>(posts.size());
+        for (Integer id : ids) {
+            JobPost post = posts.get(id);
+            if (post != null) results.add(post);
+        }
+        return results;
+    }
+
+    // fills the search index from the database once the app is up; searches see the old index until it is done
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void buildSearchIndex() {
+        searchIndex.rebuild(this::streamAllJobs);
+        System.out.println("Search index built : " + searchIndex.size() + " job posts");
     }
 }
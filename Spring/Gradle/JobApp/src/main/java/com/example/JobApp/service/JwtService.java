@@ -1,17 +1,17 @@
 package com.example.JobApp.service;
 
+import com.example.JobApp.model.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.cglib.core.internal.Function;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
-import java.security.Key;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
@@ -24,10 +24,16 @@ public class JwtService {
     private static final String SECRET = "TmV3U2VjcmV0S2V5Rm9ySldUU2lnbmluZ1B1cnBvc2VzMTIzNDU2Nzg=\r\n";
     private static final String SECRET1 = "0000000000000000000000000000000000000000000"; //43 Characters min
 
-    private String secretKey;
+    // key and parser are immutable and thread-safe, so they are built once instead of per token
+    private final SecretKey key;
+    private final JwtParser parser;
 
     public JwtService() {
-        secretKey = generateSecretKey();
+        String secretKey = generateSecretKey();
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     public String generateSecretKey() {
@@ -50,43 +56,27 @@ public class JwtService {
                 .setSubject(username)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date((System.currentTimeMillis() + 1000 * 60 * 3)))
-                .signWith(getKey(), SignatureAlgorithm.HS256)
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
     }
 
-    private Key getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // checks the signature once and returns the claims we use together
+    public VerifiedToken verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return new VerifiedToken(claims.getSubject(), claims.getExpiration(), claims.getIssuedAt());
     }
 
     public String extractUserName(String token) {
         // extract the username from jwt token
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getKey())
-                .build().parseClaimsJws(token).getBody();
-    }
-
-
     public boolean validateToken(String token, UserDetails userDetails) {
-        final String userName = extractUserName(token);
-        return (userName.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return validateToken(verify(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean validateToken(VerifiedToken token, UserDetails userDetails) {
+        return (token.subject().equals(userDetails.getUsername()) && !token.isExpired());
     }
 }
@@ -5,12 +5,13 @@ import com.example.JobApp.model.UserPrincipal;
 import com.example.JobApp.repo.UserRepo;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
-public class MyUserDetailsService implements UserDetailsService {
+public class MyUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     @Autowired
     private UserRepo repo;
@@ -27,4 +28,12 @@ public class MyUserDetailsService implements UserDetailsService {
             return new UserPrincipal(user);
         }
     }
+
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+
+        User user = repo.findByUsername(userDetails.getUsername());
+        user.setPassword(newPassword);
+        return new UserPrincipal(repo.save(user));
+    }
 }
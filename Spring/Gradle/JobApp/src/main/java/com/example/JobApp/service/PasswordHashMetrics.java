@@ -0,0 +1,48 @@
+package com.example.JobApp.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Hash/verify latency per BCrypt cost, so the effect of a cost change is visible before and after re-hashing
+@Component
+public class PasswordHashMetrics {
+
+    private final Map<Integer, Timer> timers = new ConcurrentHashMap<>();
+
+    public void record(int cost, long nanos) {
+        timers.computeIfAbsent(cost, c -> new Timer()).record(nanos);
+    }
+
+    public Map<Integer, Map<String, Object>> snapshot() {
+        Map<Integer, Map<String, Object>> snapshot = new TreeMap<>();
+        timers.forEach((cost, timer) -> snapshot.put(cost, timer.snapshot()));
+        return snapshot;
+    }
+
+    private static class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        Map<String, Object> snapshot() {
+            long n = count.sum();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", n);
+            stats.put("avgMillis", n == 0 ? 0.0 : totalNanos.sum() / 1e6 / n);
+            stats.put("maxMillis", maxNanos.get() / 1e6);
+            return stats;
+        }
+    }
+}
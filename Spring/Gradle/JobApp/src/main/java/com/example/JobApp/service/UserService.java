@@ -3,7 +3,7 @@ package com.example.JobApp.service;
 import com.example.JobApp.model.User;
 import com.example.JobApp.repo.UserRepo;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -11,7 +11,8 @@ public class UserService {
 
     @Autowired
     private UserRepo repo;
-    private BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
+    @Autowired
+    private PasswordEncoder encoder;
 
     public User saveUser(User user) {
         user.setPassword(encoder.encode(user.getPassword()));
@@ -0,0 +1,49 @@
+package com.example.JobApp.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenCacheTest {
+
+    private final UserDetails user = User.withUsername("demo").password("x").authorities("USER").build();
+
+    @Test
+    void testHitAfterPut() {
+        JwtTokenCache cache = new JwtTokenCache(10);
+
+        cache.put("token", user, new Date(System.currentTimeMillis() + 60_000));
+
+        assertSame(user, cache.get("token"));
+        assertNull(cache.get("other-token"));
+        assertEquals(1L, cache.stats().get("hits"));
+        assertEquals(1L, cache.stats().get("misses"));
+    }
+
+    @Test
+    void testExpiredEntryIsMiss() throws InterruptedException {
+        JwtTokenCache cache = new JwtTokenCache(10);
+
+        cache.put("token", user, new Date(System.currentTimeMillis() + 20));
+        Thread.sleep(40);
+
+        assertNull(cache.get("token"));
+        assertEquals(1L, cache.stats().get("misses"));
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        JwtTokenCache cache = new JwtTokenCache(3);
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+
+        for (int i = 0; i < 10; i++) cache.put("token" + i, user, expiration);
+
+        // which three stay is up to Caffeine's admission policy
+        assertEquals(3L, cache.stats().get("size"));
+        assertEquals(7L, cache.stats().get("evictions"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.JobApp.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// POST /job and PUT /job latency (p50/p99) against a running JobApp.
+// Run main() once on the build before a change and once after, against the same database.
+// args: [baseUrl] [username] [password] [requests] [threads]; the user must already be registered
+public class JobWriteLatencyHarness {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        String username = args.length > 1 ? args[1] : "demo";
+        String password = args.length > 2 ? args[2] : "1234";
+        int requests = args.length > 3 ? Integer.parseInt(args[3]) : 5_000;
+        int threads = args.length > 4 ? Integer.parseInt(args[4]) : 16;
+
+        HttpClient client = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(threads)).build();
+        String token = login(client, baseUrl, username, password);
+
+        // ids start above whatever is already there so every POST is a real insert
+        int firstId = (int) (System.currentTimeMillis() / 1000 % 1_000_000) * 1000;
+        AtomicInteger nextId = new AtomicInteger(firstId);
+
+        long[] post = run(threads, requests, () -> {
+            int id = nextId.getAndIncrement();
+            return send(client, token, HttpRequest.newBuilder(URI.create(baseUrl + "/job"))
+                    .POST(HttpRequest.BodyPublishers.ofString(json(id, "Load Test Engineer"))));
+        });
+        AtomicInteger updateId = new AtomicInteger(firstId);
+        long[] put = run(threads, requests, () -> {
+            int id = updateId.getAndIncrement();
+            return send(client, token, HttpRequest.newBuilder(URI.create(baseUrl + "/job"))
+                    .PUT(HttpRequest.BodyPublishers.ofString(json(id, "Senior Load Test Engineer"))));
+        });
+
+        print("POST /job", post);
+        print("PUT  /job", put);
+        System.out.println("inserted ids " + firstId + ".." + (nextId.get() - 1));
+        System.exit(0);
+    }
+
+    private static String login(HttpClient client, String baseUrl, String username, String password) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) throw new IllegalStateException("login failed: " + response.statusCode());
+        return response.body();
+    }
+
+    private static long send(HttpClient client, String token, HttpRequest.Builder builder) throws Exception {
+        HttpRequest request = builder
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + token)
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        long elapsed = System.nanoTime() - start;
+        if (response.statusCode() != 200) throw new IllegalStateException(request.method() + " failed: " + response.statusCode());
+        return elapsed;
+    }
+
+    private static long[] run(int threads, int requests, TimedCall call) throws Exception {
+        // warm-up, not measured
+        for (int i = 0; i < Math.min(200, requests / 10); i++) call.call();
+
+        long[] latencies = new long[requests];
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        Future<?>[] workers = new Future<?>[threads];
+        for (int t = 0; t < threads; t++) {
+            workers[t] = pool.submit(() -> {
+                for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                    latencies[i] = call.call();
+                }
+                return null;
+            });
+        }
+        for (Future<?> worker : workers) worker.get();
+        pool.shutdown();
+        pool.awaitTermination(10, TimeUnit.SECONDS);
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void print(String name, long[] sorted) {
+        System.out.printf("%s  n=%d  p50=%.2f ms  p99=%.2f ms  max=%.2f ms%n", name, sorted.length,
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.ceil(p * sorted.length) - 1] / 1e6;
+    }
+
+    private static String json(int id, String profile) {
+        return "{\"postId\":" + id + ",\"postProfile\":\"" + profile + "\",\"postDesc\":\"Generated by JobWriteLatencyHarness\","
+                + "\"reqExperience\":2,\"postTechStack\":[\"Java\",\"Spring\"]}";
+    }
+
+    private interface TimedCall {
+        long call() throws Exception;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.JobApp.repo;
+
+import com.example.JobApp.model.JobPost;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs on an embedded H2 database and counts the SQL statements each query needs,
+// so loading postTechStack never turns into one extra query per post.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class JobRepoFetchTest {
+
+    private static final int POSTS = 20;
+
+    @Autowired
+    private JobRepo jobRepo;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= POSTS; i++) {
+            entityManager.persist(new JobPost(i, "Engineer " + i, "Description " + i, i % 5, List.of("Java", "Spring", "SQL")));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindAll() {
+        List<JobPost> jobs = jobRepo.findAll();
+
+        assertEquals(POSTS, jobs.size());
+        jobs.forEach(job -> assertEquals(List.of("Java", "Spring", "SQL"), job.getPostTechStack()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindByPostDescContainingOrPostProfileContaining() {
+        List<JobPost> jobs = jobRepo.findByPostDescContainingOrPostProfileContaining("1", "1");
+
+        assertEquals(11, jobs.size()); // 1, 10..19
+        jobs.forEach(job -> assertEquals(3, job.getPostTechStack().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindByPostIdGreaterThan() {
+        List<JobPost> jobs = jobRepo.findByPostIdGreaterThanOrderByPostIdAsc(5, Limit.of(10));
+
+        assertEquals(10, jobs.size());
+        jobs.forEach(job -> assertEquals(3, job.getPostTechStack().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testInsertIsASingleStatement() {
+        JobPost saved = jobRepo.insert(new JobPost(POSTS + 1, "Engineer", "Description", 1, List.of("Java")));
+
+        assertEquals(POSTS + 1, saved.getPostId());
+        assertEquals(1, statistics.getPrepareStatementCount()); // INSERT only, save() would SELECT first
+    }
+
+    @Test
+    void testInsertDuplicateIdFails() {
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jobRepo.insert(new JobPost(1, "Engineer", "Description", 1, List.of("Java"))));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.JobApp.service;
+
+import com.example.JobApp.model.BulkLoadResult;
+import com.example.JobApp.repo.JobRepo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "job.bulk.batch-size=100",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({JobBulkLoader.class, JobSearchIndex.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class JobBulkLoaderTest {
+
+    @Autowired
+    private JobBulkLoader bulkLoader;
+    @Autowired
+    private JobRepo jobRepo;
+    @Autowired
+    private JobSearchIndex searchIndex;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testLoadNdjson() throws Exception {
+        StringBuilder feed = new StringBuilder();
+        for (int i = 1; i <= 250; i++) feed.append(post(i)).append('\n');
+
+        BulkLoadResult result = bulkLoader.load(stream(feed.toString()));
+
+        assertEquals(250, result.rows());
+        assertEquals(250, jobRepo.count());
+        assertEquals(250, searchIndex.size());
+        // 3 batched INSERT statements (100 + 100 + 50) plus the count query, no SELECT per row
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testLoadJsonArray() throws Exception {
+        String feed = "[" + post(1) + "," + post(2) + "," + post(3) + "]";
+
+        BulkLoadResult result = bulkLoader.load(stream(feed));
+
+        assertEquals(3, result.rows());
+        assertEquals("Engineer 2", jobRepo.findById(2).get().getPostProfile());
+    }
+
+    private static String post(int id) {
+        return "{\"postId\":" + id + ",\"postProfile\":\"Engineer " + id + "\",\"postDesc\":\"Description\","
+                + "\"reqExperience\":2,\"postTechStack\":[\"Java\",\"SQL\"]}";
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.JobApp.service;
+
+import com.example.JobApp.model.JobPost;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobSearchIndexTest {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex();
+        index.index(new JobPost(1, "Software Engineer", "Exciting opportunity for a skilled software engineer.", 3, List.of("Java", "Spring", "SQL")));
+        index.index(new JobPost(2, "Data Scientist", "Join our data science team and work on cutting-edge projects.", 5, List.of("Python", "Machine Learning", "TensorFlow")));
+        index.index(new JobPost(3, "Frontend Developer", "Create amazing user interfaces with our talented frontend team.", 2, List.of("JavaScript", "React", "CSS")));
+        index.index(new JobPost(4, "Network Engineer", "Design and maintain our robust network infrastructure.", 4, List.of("Cisco", "Routing", "Firewalls")));
+    }
+
+    @Test
+    void testCaseInsensitiveWordMatch() {
+        List<Integer> ids = index.search("ENGINEER");
+
+        // post 1 mentions engineer in profile and description, so it ranks first
+        assertEquals(List.of(1, 4), ids);
+    }
+
+    @Test
+    void testPrefixMatch() {
+        assertEquals(List.of(3), index.search("javas"));  // javascript
+        assertEquals(List.of(2), index.search("tensor")); // tensorflow
+    }
+
+    @Test
+    void testExactMatchRanksAbovePrefix() {
+        index.index(new JobPost(5, "Java Developer", "Backend work", 2, List.of("Java")));
+
+        assertEquals(List.of(5, 1, 3), index.search("java"));
+    }
+
+    @Test
+    void testAllWordsMustMatch() {
+        assertEquals(List.of(4), index.search("network engineer"));
+        assertTrue(index.search("network python").isEmpty());
+    }
+
+    @Test
+    void testUpdateReplacesOldTerms() {
+        index.index(new JobPost(4, "Cloud Architect", "Design cloud systems.", 6, List.of("AWS")));
+
+        assertEquals(List.of(1), index.search("engineer"));
+        assertEquals(List.of(4), index.search("aws"));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void testRemove() {
+        index.remove(2);
+
+        assertTrue(index.search("python").isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void testRebuildKeepsServingTheOldIndexUntilItIsDone() {
+        index.rebuild(posts -> {
+            posts.accept(new JobPost(5, "Java Developer", "Backend work", 2, List.of("Java")));
+            assertEquals(List.of(1, 4), index.search("engineer"));
+            assertTrue(index.search("backend").isEmpty());
+        });
+
+        assertEquals(List.of(5), index.search("backend"));
+        assertTrue(index.search("engineer").isEmpty());
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    void testChangesDuringRebuildAreKept() {
+        index.rebuild(posts -> {
+            // the source read post 1 before it was updated and post 2 before it was deleted
+            index.index(new JobPost(1, "Cloud Architect", "Design cloud systems.", 6, List.of("AWS")));
+            index.remove(2);
+            posts.accept(new JobPost(1, "Software Engineer", "Exciting opportunity for a skilled software engineer.", 3, List.of("Java", "Spring", "SQL")));
+            posts.accept(new JobPost(2, "Data Scientist", "Join our data science team and work on cutting-edge projects.", 5, List.of("Python", "Machine Learning", "TensorFlow")));
+        });
+
+        assertEquals(List.of(1), index.search("aws"));
+        assertTrue(index.search("python").isEmpty());
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.JobApp.service;
+
+import com.example.JobApp.config.CacheConfig;
+import com.example.JobApp.model.JobPost;
+import com.example.JobApp.repo.JobRepo;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.cache.type=caffeine",
+        "spring.cache.caffeine.spec=maximumSize=100,recordStats",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({CacheConfig.class, JobService.class, JobSearchIndex.class})
+@ImportAutoConfiguration(CacheAutoConfiguration.class)
+class JobServiceCacheTest {
+
+    @Autowired
+    private JobService jobService;
+    @Autowired
+    private JobRepo jobRepo;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        jobRepo.saveAndFlush(new JobPost(1, "Software Engineer", "Description 1", 3, List.of("Java")));
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testRepeatedGetJobIsServedFromCache() {
+        jobService.getJob(1);
+        jobService.getJob(1);
+        jobService.getJob(1);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testUpdateEvicts() {
+        jobService.getJob(1);
+
+        jobService.updateJob(new JobPost(1, "Senior Software Engineer", "Description 1", 6, List.of("Java")));
+
+        assertEquals("Senior Software Engineer", jobService.getJob(1).getPostProfile());
+    }
+
+    @Test
+    void testDeleteEvicts() {
+        jobService.getJob(1);
+
+        jobService.deleteJob(1);
+
+        assertThrows(NoSuchElementException.class, () -> jobService.getJob(1));
+    }
+}
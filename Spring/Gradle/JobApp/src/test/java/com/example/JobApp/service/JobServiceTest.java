@@ -1,5 +1,6 @@
 package com.example.JobApp.service;
 
+import com.example.JobApp.model.JobPage;
 import com.example.JobApp.model.JobPost;
 import com.example.JobApp.repo.JobRepo;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,7 +8,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.List;
@@ -22,6 +25,9 @@ class JobServiceTest {
     @Mock // Mocks the JobRepo dependency
     private JobRepo jobRepo;
 
+    @Spy // Real in-memory search index, spied so calls to it can be verified
+    private JobSearchIndex searchIndex = new JobSearchIndex();
+
     @InjectMocks // Injects the mocked JobRepo into JobService
     private JobService jobService;
 
@@ -53,16 +59,51 @@ class JobServiceTest {
         verify(jobRepo, times(1)).findAll(); // Verify that findAll() was called exactly once
     }
 
+    @Test
+    void testGetJobsPage() {
+        // Arrange: a full page of 2 jobs after cursor 0
+        List<JobPost> mockJobs = Arrays.asList(
+                new JobPost(1, "Software Engineer", "Description 1", 3, List.of("Java")),
+                new JobPost(2, "Data Scientist", "Description 2", 5, List.of("Python"))
+        );
+        when(jobRepo.findByPostIdGreaterThanOrderByPostIdAsc(0, Limit.of(2))).thenReturn(mockJobs);
+
+        // Act: Call the service method
+        JobPage page = jobService.getJobsPage(0, 2);
+
+        // Assert: a full page points the cursor at its last postId
+        assertEquals(2, page.jobs().size());
+        assertEquals(2, page.nextCursor());
+    }
+
+    @Test
+    void testGetJobsPage_LastPage() {
+        // Arrange: fewer rows than the page size means there is nothing after this page
+        when(jobRepo.findByPostIdGreaterThanOrderByPostIdAsc(2, Limit.of(10)))
+                .thenReturn(List.of(new JobPost(3, "Frontend Developer", "Description 3", 2, List.of("React"))));
+
+        // Act: Call the service method
+        JobPage page = jobService.getJobsPage(2, 10);
+
+        // Assert: no next cursor on the last page
+        assertEquals(1, page.jobs().size());
+        assertNull(page.nextCursor());
+    }
+
     @Test
     void testAddJobPost() {
         // Arrange: Create a dummy job post
         JobPost newJob = new JobPost(3, "Frontend Developer", "New job description", 2, List.of("React"));
+        when(jobRepo.insert(newJob)).thenReturn(newJob);
 
         // Act: Call the service method
-        jobService.addJobPost(newJob);
+        JobPost result = jobService.addJobPost(newJob);
 
-        // Assert: Verify that save() was called with the correct job post
-        verify(jobRepo, times(1)).save(newJob);
+        // Assert: Verify a plain insert was used (no merge) and the persisted post is returned
+        assertSame(newJob, result);
+        verify(jobRepo, times(1)).insert(newJob);
+        verify(jobRepo, never()).save(any());
+        verify(jobRepo, never()).findById(anyInt());
     }
 
     @Test
@@ -101,12 +142,15 @@ class JobServiceTest {
     void testUpdateJob() {
         // Arrange: Create a dummy job post for update
         JobPost updatedJob = new JobPost(1, "Updated Software Engineer", "Updated description", 4, List.of("Java", "Spring Boot"));
+        when(jobRepo.save(updatedJob)).thenReturn(updatedJob);
 
         // Act: Call the service method
-        jobService.updateJob(updatedJob);
+        JobPost result = jobService.updateJob(updatedJob);
 
-        // Assert: Verify that save() was called with the updated job post
+        // Assert: Verify that save() was called with the updated job post and its result returned
+        assertEquals(updatedJob, result);
         verify(jobRepo, times(1)).save(updatedJob);
+        verify(jobRepo, never()).findById(anyInt());
     }
 
     @Test
@@ -132,24 +176,38 @@ class JobServiceTest {
 
     @Test
     void testSearchByKeyword() {
-        // Arrange: Define a keyword and mock job posts that match
+        // Arrange: Add job posts through the service so they get indexed
         String keyword = "Engineer";
-        List<JobPost> mockSearchResults = Arrays.asList(
-                new JobPost(1, "Software Engineer", "Description for engineer", 3, List.of("Java")),
-                new JobPost(4, "Network Engineer", "Description for network", 4, List.of("Cisco"))
-        );
-
-        // Define the behavior of the mocked search method
-        when(jobRepo.findByPostDescContainingOrPostProfileContaining(keyword, keyword))
-                .thenReturn(mockSearchResults);
+        JobPost engineer = new JobPost(1, "Software Engineer", "Description for engineer", 3, List.of("Java"));
+        JobPost networkEngineer = new JobPost(4, "Network Engineer", "Description for network", 4, List.of("Cisco"));
+        when(jobRepo.insert(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        jobService.addJobPost(engineer);
+        jobService.addJobPost(new JobPost(2, "Data Scientist", "Description 2", 5, List.of("Python")));
+        jobService.addJobPost(networkEngineer);
+        // the database hands the posts back in its own order
+        when(jobRepo.findAllById(List.of(1, 4))).thenReturn(List.of(networkEngineer, engineer));
 
         // Act: Call the service method
         List<JobPost> result = jobService.searchByKeyword(keyword);
 
-        // Assert: Verify the result and that the search method was called
+        // Assert: Verify the matches are loaded by id and kept in the index's ranking
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals("Software Engineer", result.get(0).getPostProfile());
-        verify(jobRepo, times(1)).findByPostDescContainingOrPostProfileContaining(keyword, keyword);
+        verify(searchIndex, times(1)).search(keyword);
+        verify(jobRepo, never()).findByPostDescContainingOrPostProfileContaining(anyString(), anyString());
+    }
+
+    @Test
+    void testDeleteJobRemovesFromSearch() {
+        // Arrange: Index a job post
+        when(jobRepo.insert(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        jobService.addJobPost(new JobPost(1, "Software Engineer", "Description 1", 3, List.of("Java")));
+
+        // Act: Delete it
+        jobService.deleteJob(1);
+
+        // Assert: It is no longer found
+        assertTrue(jobService.searchByKeyword("Engineer").isEmpty());
     }
 }
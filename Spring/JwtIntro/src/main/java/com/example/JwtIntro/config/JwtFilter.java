@@ -1,5 +1,6 @@
 package com.example.JwtIntro.config;
 
+import com.example.JwtIntro.model.VerifiedToken;
 import com.example.JwtIntro.service.JwtService;
 import com.example.JwtIntro.service.MyUserDetailsService;
 import jakarta.servlet.FilterChain;
@@ -29,17 +30,15 @@ public class JwtFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         String authHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        VerifiedToken verified = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            username = jwtService.extractUserName(token);
+            verified = jwtService.verify(authHeader.substring(7));
         }
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (verified != null && verified.subject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            UserDetails userDetails = context.getBean(MyUserDetailsService.class).loadUserByUsername(username);
-            if (jwtService.validateToken(token, userDetails)) {
+            UserDetails userDetails = context.getBean(MyUserDetailsService.class).loadUserByUsername(verified.subject());
+            if (jwtService.validateToken(verified, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -0,0 +1,129 @@
+package com.example.apigateway.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Admission control in front of the services: each client gets its own token bucket per route and rule
+// (see TokenBuckets), so one client flooding /quiz/submit can't starve the others or the backend.
+// Over the limit the request is answered here with 429 and Retry-After and never reaches the route.
+// Rules match the decoded path without matrix parameters, the path the backend will route on, so
+// /quiz/%73ubmit or /quiz/submit;x can't slip past the /quiz/submit rule.
+// Clients are told apart by address, never by anything they could make up per request such as an
+// unverified Authorization header. Behind a trusted proxy the address is the last X-Forwarded-For hop
+// that isn't one of the proxies themselves.
+// Decisions are counted in gateway.ratelimit.requests{rule, outcome=allowed|rejected}.
+@Component
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitFilter implements GlobalFilter, Ordered {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    private final RateLimitProperties properties;
+    private final List<Limit> limits;
+    private final TokenBuckets buckets;
+    private final Set<String> trustedProxies;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.limits = properties.rules().stream().map(rule -> new Limit(rule, registry)).toList();
+        this.trustedProxies = properties.trustedProxies().stream().map(RateLimitFilter::normalize).collect(Collectors.toSet());
+        this.buckets = new TokenBuckets(properties.maxKeys(), properties.idleTimeout(), System::nanoTime);
+        registry.gauge("gateway.ratelimit.buckets", buckets, TokenBuckets::size);
+    }
+
+    // runs first, a rejected request shouldn't cost anything further down the chain
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 100;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!properties.enabled()) return chain.filter(exchange);
+        ServerHttpRequest request = exchange.getRequest();
+        Limit limit = match(request.getPath().pathWithinApplication());
+        if (limit == null) return chain.filter(exchange);
+
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        String key = clientKey(request) + '|' + (route == null ? "" : route.getId()) + '|' + limit.rule.path();
+        long waitNanos = buckets.tryAcquire(key, limit.rule.rate(), limit.rule.burst());
+        if (waitNanos == 0) {
+            limit.allowed.increment();
+            return chain.filter(exchange);
+        }
+
+        limit.rejected.increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        return exchange.getResponse().setComplete();
+    }
+
+    private Limit match(PathContainer path) {
+        for (Limit limit : limits) {
+            if (limit.pattern.matches(path)) return limit;
+        }
+        return null;
+    }
+
+    String clientKey(ServerHttpRequest request) {
+        InetSocketAddress remote = request.getRemoteAddress();
+        String address = remote == null || remote.getAddress() == null ? "unknown" : remote.getAddress().getHostAddress();
+        if (!trustedProxies.contains(address)) return address;
+
+        // each proxy appends the address it got the request from; anything left of our proxies is the client's word
+        List<String> hops = request.getHeaders().getValuesAsList(X_FORWARDED_FOR);
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            String hop = normalize(hops.get(i));
+            if (!trustedProxies.contains(hop)) return hop;
+        }
+        return address;
+    }
+
+    // one spelling per IPv6 address, so ::1 and 0:0:0:0:0:0:0:1 are the same client (a literal, never a DNS lookup)
+    private static String normalize(String address) {
+        String trimmed = address.trim();
+        if (trimmed.indexOf(':') < 0) return trimmed;
+        try {
+            return InetAddress.getByName(trimmed).getHostAddress();
+        } catch (UnknownHostException e) {
+            return trimmed;
+        }
+    }
+
+    private static final class Limit {
+        final RateLimitProperties.Rule rule;
+        final PathPattern pattern;
+        final Counter allowed;
+        final Counter rejected;
+
+        Limit(RateLimitProperties.Rule rule, MeterRegistry registry) {
+            this.rule = rule;
+            this.pattern = PathPatternParser.defaultInstance.parse(rule.path());
+            this.allowed = Counter.builder("gateway.ratelimit.requests").tag("rule", rule.path()).tag("outcome", "allowed").register(registry);
+            this.rejected = Counter.builder("gateway.ratelimit.requests").tag("rule", rule.path()).tag("outcome", "rejected").register(registry);
+        }
+    }
+}
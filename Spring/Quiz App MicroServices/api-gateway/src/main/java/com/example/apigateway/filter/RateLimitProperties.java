@@ -0,0 +1,21 @@
+package com.example.apigateway.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+// gateway.rate-limit.* : the first rule whose path pattern (PathPattern syntax) matches the request applies, requests matching
+// no rule are not limited. rate is tokens per second, burst is the bucket size.
+// trusted-proxies: addresses of load balancers in front of the gateway whose X-Forwarded-For is believed
+@ConfigurationProperties("gateway.rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled,
+                                  @DefaultValue("100000") long maxKeys,
+                                  @DefaultValue("10m") Duration idleTimeout,
+                                  @DefaultValue List<String> trustedProxies,
+                                  @DefaultValue List<Rule> rules) {
+
+    public record Rule(String path, double rate, int burst) {
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.apigateway.filter;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Caches 200 responses of GET requests on the configured paths for a TTL, with an ETag so clients can
+// revalidate with If-None-Match and get a 304. Identical requests arriving while the first is still
+// upstream wait for its response instead of going to the backend too, so a burst of students opening
+// the same quiz costs one backend call. Requests with an Authorization header are never cached.
+// Accept and Accept-Encoding are part of the key; a response that varies on anything else is not kept.
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    private static final List<String> KEY_HEADERS = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+    private static final List<String> REPLAYED_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_ENCODING, HttpHeaders.VARY);
+
+    private final AsyncCache<String, CachedResponse> responses;
+    private final List<String> paths;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public ResponseCacheFilter(@Value("${gateway.response-cache.paths:}") List<String> paths,
+                               @Value("${gateway.response-cache.ttl:60s}") Duration ttl,
+                               @Value("${gateway.response-cache.max-bytes:67108864}") long maxBytes) {
+        this.paths = paths;
+        this.responses = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumWeight(maxBytes)
+                .weigher((String key, CachedResponse response) -> response.body().length + key.length())
+                .buildAsync();
+    }
+
+    // must wrap the response before NettyWriteResponseFilter writes the upstream body into it
+    @Override
+    public int getOrder() {
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (!isCacheable(request)) return chain.filter(exchange);
+
+        String key = key(request);
+        CompletableFuture<CachedResponse> promise = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> existing = responses.asMap().putIfAbsent(key, promise);
+        if (existing == null) return fetch(exchange, chain, promise);
+
+        // a cached response, or one still in flight: wait for it without cancelling it for the others.
+        // if it turned out not cacheable (null) or failed, this request goes upstream by itself
+        // (write() completes empty too, so the fallback is decided on the Optional, not with switchIfEmpty)
+        return Mono.fromFuture(existing, true)
+                .map(Optional::of)
+                .onErrorResume(e -> Mono.empty())
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(cached -> cached.isPresent() ? write(exchange, cached.get()) : chain.filter(exchange));
+    }
+
+    // the URI plus the headers the response is negotiated on, so one client's representation is not sent to another
+    private static String key(ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder(request.getURI().getRawPath());
+        if (request.getURI().getRawQuery() != null) key.append('?').append(request.getURI().getRawQuery());
+        for (String name : KEY_HEADERS) {
+            key.append('\n').append(String.join(",", request.getHeaders().getOrEmpty(name)));
+        }
+        return key.toString();
+    }
+
+    private boolean isCacheable(ServerHttpRequest request) {
+        if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) return false;
+        String path = request.getURI().getRawPath();
+        for (String pattern : paths) {
+            if (pathMatcher.match(pattern, path)) return true;
+        }
+        return false;
+    }
+
+    // the one request that goes upstream; its body is buffered, completes the promise, then goes to the client
+    private Mono<Void> fetch(ServerWebExchange exchange, GatewayFilterChain chain, CompletableFuture<CachedResponse> promise) {
+        ServerHttpResponse original = exchange.getResponse();
+        ServerHttpResponseDecorator capturing = new ServerHttpResponseDecorator(original) {
+            @Override
+            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                return DataBufferUtils.join(Flux.from(body)).defaultIfEmpty(bufferFactory().wrap(new byte[0])).flatMap(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+
+                    CachedResponse cached = isCacheable(getStatusCode() == null ? 0 : getStatusCode().value(), getHeaders())
+                            ? new CachedResponse(bytes, replayed(getHeaders()), etag(getHeaders(), bytes))
+                            : null;
+                    promise.complete(cached);
+                    if (cached == null) return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+
+                    getHeaders().setETag(cached.etag());
+                    getHeaders().set("X-Cache", "MISS");
+                    if (exchange.getRequest().getHeaders().getIfNoneMatch().contains(cached.etag())) {
+                        getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+                        setStatusCode(HttpStatus.NOT_MODIFIED);
+                        return setComplete();
+                    }
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+            }
+        };
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doOnError(promise::completeExceptionally)
+                .doFinally(signal -> promise.complete(null)); // no body written (error, cancel): nothing to share
+    }
+
+    private static boolean isCacheable(int status, HttpHeaders headers) {
+        if (status != HttpStatus.OK.value() || headers.containsKey(HttpHeaders.SET_COOKIE)) return false;
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null && (cacheControl.contains("no-store") || cacheControl.contains("private"))) return false;
+        for (String vary : headers.getVary()) {
+            if (KEY_HEADERS.stream().noneMatch(vary::equalsIgnoreCase)) return false;
+        }
+        return true;
+    }
+
+    private static HttpHeaders replayed(HttpHeaders headers) {
+        HttpHeaders replayed = new HttpHeaders();
+        for (String name : REPLAYED_HEADERS) {
+            if (headers.containsKey(name)) replayed.put(name, List.copyOf(headers.get(name)));
+        }
+        return replayed;
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().setETag(cached.etag());
+        response.getHeaders().set("X-Cache", "HIT");
+        if (exchange.getRequest().getHeaders().getIfNoneMatch().contains(cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return response.setComplete();
+        }
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
+
+    // the backend's strong ETag if it sent one, otherwise a hash of the body
+    private static String etag(HttpHeaders headers, byte[] body) {
+        String etag = headers.getETag();
+        if (etag != null && !etag.startsWith("W/")) return etag;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedResponse(byte[] body, HttpHeaders headers, String etag) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.apigateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Token buckets kept as GCRA state: one AtomicLong per key holding the "theoretical arrival time" of the
+// next request in nanos. A bucket with `burst` tokens refilling at `rate`/s admits a request when that
+// time is at most burst-1 intervals ahead of now; taking a token is a single CAS, no locks, no refill thread.
+// Idle buckets fall out of the map; an expired bucket is the same as a full one once it has been idle
+// longer than burst/rate, so the idle timeout should be at least that.
+public class TokenBuckets {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier nanoClock;
+
+    public TokenBuckets(long maxKeys, Duration idleTimeout, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.nanoClock = nanoClock;
+    }
+
+    // 0 if a token was taken, otherwise how many nanos until one is available
+    public long tryAcquire(String key, double rate, int burst) {
+        long interval = (long) (1_000_000_000L / rate);
+        long tolerance = interval * (burst - 1);
+        long now = nanoClock.getAsLong();
+        AtomicLong tat = buckets.get(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = tat.get();
+            long start = Math.max(current, now);
+            long wait = start - tolerance - now;
+            if (wait > 0) return wait;
+            if (tat.compareAndSet(current, start + interval)) return 0;
+        }
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.apigateway.filter;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Real gateway with a tight limit on /quiz-service/quiz/submit/** in front of a stand-in backend
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.gateway.discovery.locator.enabled=false"
+})
+class RateLimitFilterTest {
+
+    private static final HttpServer backend = startBackend();
+    private static final AtomicInteger hits = new AtomicInteger();
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @Autowired
+    private MeterRegistry registry;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("spring.cloud.gateway.routes[0].id", () -> "quiz-service");
+        registry.add("spring.cloud.gateway.routes[0].uri", () -> "http://localhost:" + backend.getAddress().getPort());
+        registry.add("spring.cloud.gateway.routes[0].predicates[0]", () -> "Path=/quiz-service/**");
+        registry.add("spring.cloud.gateway.routes[0].filters[0]", () -> "StripPrefix=1");
+        // one token every 100 s, 3 at once: the refill can't interfere with the test
+        registry.add("gateway.rate-limit.rules[0].path", () -> "/quiz-service/quiz/submit/**");
+        registry.add("gateway.rate-limit.rules[0].rate", () -> "0.01");
+        registry.add("gateway.rate-limit.rules[0].burst", () -> "3");
+        // the test client connects over loopback and plays a proxy that forwards for several clients
+        registry.add("gateway.rate-limit.trusted-proxies", () -> "127.0.0.1,::1");
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop(0);
+    }
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Test
+    void testOverLimitRequestsGet429WithRetryAfter() {
+        int before = hits.get();
+        // a new Authorization header on every request doesn't buy a new bucket
+        for (int i = 0; i < 3; i++) {
+            submit("203.0.113.7", "Bearer flooder-" + i).expectStatus().isOk();
+        }
+        submit("203.0.113.7", "Bearer flooder-3")
+                .expectStatus().isEqualTo(HttpStatus.TOO_MANY_REQUESTS)
+                .expectHeader().value("Retry-After", retryAfter -> assertTrue(Long.parseLong(retryAfter) >= 1));
+        assertEquals(3, hits.get() - before);
+
+        // another client and an unlimited path are unaffected
+        submit("198.51.100.20", "Bearer someone-else").expectStatus().isOk();
+        for (int i = 0; i < 5; i++) {
+            webTestClient.get().uri("/quiz-service/quiz/get/1").header("X-Forwarded-For", "203.0.113.7").exchange()
+                    .expectStatus().isOk();
+        }
+
+        String rule = "/quiz-service/quiz/submit/**";
+        assertEquals(4, registry.get("gateway.ratelimit.requests").tag("rule", rule).tag("outcome", "allowed").counter().count());
+        assertEquals(1, registry.get("gateway.ratelimit.requests").tag("rule", rule).tag("outcome", "rejected").counter().count());
+    }
+
+    @Test
+    void testForwardedForIsOnlyBelievedFromTrustedProxies() {
+        // straight from a client: whatever it claims in X-Forwarded-For is ignored
+        assertEquals("192.0.2.50", rateLimitFilter.clientKey(request("192.0.2.50", "203.0.113.7")));
+        // through a trusted proxy: the hop the proxy saw, not what the client prepended
+        assertEquals("198.51.100.9", rateLimitFilter.clientKey(request("127.0.0.1", "203.0.113.7, 198.51.100.9")));
+        assertEquals("198.51.100.9", rateLimitFilter.clientKey(request("0:0:0:0:0:0:0:1", "198.51.100.9, 127.0.0.1")));
+        assertEquals("127.0.0.1", rateLimitFilter.clientKey(request("127.0.0.1", null)));
+    }
+
+    @Test
+    void testEncodedAndMatrixSpellingsOfSubmitShareItsLimit() {
+        // a direct client (not a trusted proxy) with a bucket of its own
+        for (int i = 0; i < 3; i++) {
+            assertNull(filter("/quiz-service/quiz/submit/1").getResponse().getStatusCode());
+        }
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, filter("/quiz-service/quiz/%73ubmit/1").getResponse().getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, filter("/quiz-service/quiz/submit;x=1/1").getResponse().getStatusCode());
+    }
+
+    // runs the filter alone; a request it lets through reaches a chain that does nothing, so no status is set
+    private MockServerWebExchange filter(String rawPath) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest
+                .method(HttpMethod.POST, URI.create("http://localhost" + rawPath))
+                .remoteAddress(new InetSocketAddress("192.0.2.77", 40000)));
+        rateLimitFilter.filter(exchange, e -> Mono.empty()).block();
+        return exchange;
+    }
+
+    private static MockServerHttpRequest request(String remoteAddress, String forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.post("/quiz-service/quiz/submit/1")
+                .remoteAddress(new InetSocketAddress(remoteAddress, 40000));
+        if (forwardedFor != null) builder.header("X-Forwarded-For", forwardedFor);
+        return builder.build();
+    }
+
+    private WebTestClient.ResponseSpec submit(String clientAddress, String authorization) {
+        return webTestClient.post().uri("/quiz-service/quiz/submit/1")
+                .header("X-Forwarded-For", clientAddress)
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .bodyValue("[]")
+                .exchange();
+    }
+
+    private static HttpServer startBackend() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/", exchange -> {
+                hits.incrementAndGet();
+                exchange.getRequestBody().readAllBytes();
+                byte[] body = "1".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
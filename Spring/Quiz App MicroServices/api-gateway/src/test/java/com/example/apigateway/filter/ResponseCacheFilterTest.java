@@ -0,0 +1,170 @@
+package com.example.apigateway.filter;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Real gateway routing /quiz-service/** to a local stand-in backend that counts its hits
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "eureka.client.enabled=false",
+        "spring.cloud.gateway.discovery.locator.enabled=false",
+        "gateway.response-cache.paths=/quiz-service/quiz/get/**"
+})
+class ResponseCacheFilterTest {
+
+    private static final HttpServer backend = startBackend();
+    private static final Map<String, AtomicInteger> hits = new ConcurrentHashMap<>();
+
+    @Autowired
+    private WebTestClient webTestClient;
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void route(DynamicPropertyRegistry registry) {
+        // a list binds from a single property source, so the whole route is declared here
+        registry.add("spring.cloud.gateway.routes[0].id", () -> "quiz-service");
+        registry.add("spring.cloud.gateway.routes[0].uri", () -> "http://localhost:" + backend.getAddress().getPort());
+        registry.add("spring.cloud.gateway.routes[0].predicates[0]", () -> "Path=/quiz-service/**");
+        registry.add("spring.cloud.gateway.routes[0].filters[0]", () -> "StripPrefix=1");
+    }
+
+    @AfterAll
+    static void stopBackend() {
+        backend.stop(0);
+    }
+
+    @BeforeEach
+    void resetHits() {
+        hits.clear();
+    }
+
+    @Test
+    void testConcurrentRequestsShareOneBackendCall() {
+        WebClient client = WebClient.create("http://localhost:" + port);
+
+        List<String> bodies = Flux.range(0, 50)
+                .flatMap(i -> client.get().uri("/quiz-service/quiz/get/1").retrieve().bodyToMono(String.class), 50)
+                .collectList()
+                .block();
+
+        assertEquals(50, bodies.size());
+        bodies.forEach(body -> assertEquals("[{\"id\":1}]", body));
+        assertEquals(1, hits("/quiz/get/1"));
+    }
+
+    @Test
+    void testETagRevalidation() {
+        String etag = webTestClient.get().uri("/quiz-service/quiz/get/2").exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists("ETag")
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/quiz-service/quiz/get/2").header("If-None-Match", etag).exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED)
+                .expectBody().isEmpty();
+        webTestClient.get().uri("/quiz-service/quiz/get/2").exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Cache", "HIT")
+                .expectBody(String.class).isEqualTo("[{\"id\":2}]");
+        assertEquals(1, hits("/quiz/get/2"));
+    }
+
+    @Test
+    void testOnlyConfiguredPathsAndOkResponsesAreCached() {
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get().uri("/quiz-service/quiz/other").exchange().expectStatus().isOk();
+            webTestClient.get().uri("/quiz-service/quiz/get/404").exchange().expectStatus().isNotFound();
+            webTestClient.get().uri("/quiz-service/quiz/get/3").header("Authorization", "Bearer x").exchange().expectStatus().isOk();
+        }
+        assertEquals(2, hits("/quiz/other"));
+        assertEquals(2, hits("/quiz/get/404"));
+        assertEquals(2, hits("/quiz/get/3"));
+    }
+
+    @Test
+    void testResponsesAreKeptPerNegotiatedRepresentation() {
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get().uri("/quiz-service/quiz/get/5").header("Accept", "application/json").exchange().expectStatus().isOk();
+            webTestClient.get().uri("/quiz-service/quiz/get/5").header("Accept", "text/plain").exchange().expectStatus().isOk();
+        }
+        assertEquals(2, hits("/quiz/get/5"));
+    }
+
+    @Test
+    void testResponseVaryingOnOtherHeadersIsNotCached() {
+        for (int i = 0; i < 2; i++) {
+            webTestClient.get().uri("/quiz-service/quiz/get/6?vary=Cookie").exchange().expectStatus().isOk();
+        }
+        assertEquals(2, hits("/quiz/get/6"));
+    }
+
+    @Test
+    void testFirstRequestIsRevalidatedToo() {
+        webTestClient.get().uri("/quiz-service/quiz/get/7?etag=v7").header("If-None-Match", "\"v7\"").exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED)
+                .expectHeader().valueEquals("X-Cache", "MISS")
+                .expectBody().isEmpty();
+        assertEquals(1, hits("/quiz/get/7"));
+    }
+
+    private static int hits(String path) {
+        AtomicInteger count = hits.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    // answers /quiz/get/{id} with [{"id":id}] after 200 ms, 404 for id 404, and anything else with "ok";
+    // ?vary=X adds Vary: X and ?etag=X adds ETag: "X"
+    private static HttpServer startBackend() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/", exchange -> {
+                String path = exchange.getRequestURI().getPath();
+                hits.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+                try {
+                    Thread.sleep(200);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                String id = path.substring(path.lastIndexOf('/') + 1);
+                int status = id.equals("404") ? 404 : 200;
+                byte[] body = (path.startsWith("/quiz/get/") ? "[{\"id\":" + id + "}]" : "ok").getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                String query = exchange.getRequestURI().getQuery();
+                if (query != null && query.startsWith("vary=")) exchange.getResponseHeaders().add("Vary", query.substring(5));
+                if (query != null && query.startsWith("etag=")) exchange.getResponseHeaders().add("ETag", "\"" + query.substring(5) + "\"");
+                exchange.sendResponseHeaders(status, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
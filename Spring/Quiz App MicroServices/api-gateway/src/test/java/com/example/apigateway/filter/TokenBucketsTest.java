@@ -0,0 +1,73 @@
+package com.example.apigateway.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketsTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong clock = new AtomicLong(1_000 * SECOND);
+    private final TokenBuckets buckets = new TokenBuckets(1_000, Duration.ofMinutes(10), clock::get);
+
+    @Test
+    void testBurstThenRefillAtRate() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, buckets.tryAcquire("a", 2, 5));
+        }
+        assertEquals(SECOND / 2, buckets.tryAcquire("a", 2, 5));
+
+        clock.addAndGet(SECOND / 2);
+        assertEquals(0, buckets.tryAcquire("a", 2, 5));
+        assertTrue(buckets.tryAcquire("a", 2, 5) > 0);
+
+        // idle long enough to refill completely, but never beyond the burst
+        clock.addAndGet(60 * SECOND);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, buckets.tryAcquire("a", 2, 5));
+        }
+        assertTrue(buckets.tryAcquire("a", 2, 5) > 0);
+    }
+
+    @Test
+    void testKeysHaveSeparateBuckets() {
+        assertEquals(0, buckets.tryAcquire("a", 1, 1));
+        assertTrue(buckets.tryAcquire("a", 1, 1) > 0);
+        assertEquals(0, buckets.tryAcquire("b", 1, 1));
+    }
+
+    @Test
+    void testConcurrentCallersNeverExceedTheBurst() throws InterruptedException {
+        int threads = 16;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    if (buckets.tryAcquire("shared", 10, 100) == 0) allowed.incrementAndGet();
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        // the clock doesn't move, so exactly the burst gets through
+        assertEquals(100, allowed.get());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.questionservice.config;
+
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// Virtual-thread mode only: logs every time a virtual thread stays pinned to its carrier longer than the
+// threshold (a blocking call inside synchronized or native code), with the frames that caused it.
+// Uses the JFR jdk.VirtualThreadPinned event, so it works in production without -Djdk.tracePinnedThreads.
+// quiz-service has the same class; keep the two copies identical.
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class PinnedThreadMonitor {
+
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+
+    @Value("${virtual-threads.pinned-threshold:20ms}")
+    private Duration threshold;
+
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED, this::report);
+        stream.startAsync();
+        System.out.println("Watching for virtual threads pinned longer than " + threshold.toMillis() + " ms");
+    }
+
+    @PreDestroy
+    public void stop() {
+        stream.close();
+    }
+
+    private void report(RecordedEvent event) {
+        StringBuilder message = new StringBuilder("Virtual thread pinned for ")
+                .append(event.getDuration().toMillis()).append(" ms");
+        if (event.getStackTrace() != null) {
+            List<RecordedFrame> frames = event.getStackTrace().getFrames();
+            for (int i = 0; i < Math.min(8, frames.size()); i++) {
+                RecordedFrame frame = frames.get(i);
+                message.append("\n    at ").append(frame.getMethod().getType().getName())
+                        .append('.').append(frame.getMethod().getName())
+                        .append(':').append(frame.getLineNumber());
+            }
+        }
+        System.out.println(message);
+    }
+}
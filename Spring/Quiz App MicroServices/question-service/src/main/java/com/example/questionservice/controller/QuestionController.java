@@ -1,10 +1,12 @@
 package com.example.questionservice.controller;
 
+import com.example.questionservice.model.AnswerKeySnapshot;
 import com.example.questionservice.model.Question;
 import com.example.questionservice.model.QuestionWrapper;
 import com.example.questionservice.model.Response;
 import com.example.questionservice.service.QuestionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -46,6 +48,12 @@ public class QuestionController {
     public ResponseEntity<Integer> getScore(@RequestBody List<Response> responseList) {
         return questionService.getScore(responseList);
     }
+    // lets quiz-service score submissions itself, and revalidate the keys it holds with If-None-Match
+    @PostMapping("answerKeys")
+    public ResponseEntity<AnswerKeySnapshot> getAnswerKeys(@RequestBody List<Integer> questionIds,
+                                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return questionService.getAnswerKeys(questionIds, ifNoneMatch);
+    }
     // generate -> getQsn{QId} -> getScore
 }
 
@@ -1,16 +1,33 @@
 package com.example.questionservice.dao;
 
+import com.example.questionservice.model.AnswerKey;
 import com.example.questionservice.model.Question;
+import com.example.questionservice.model.QuestionCategory;
+import com.example.questionservice.model.QuestionWrapper;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface QuestionDao extends JpaRepository<Question, Integer> {
     List<Question> findByCategory(String category);
 
-    @Query(value = "SELECT q.id FROM question q Where q.category=:category ORDER BY RANDOM() LIMIT :numQ", nativeQuery = true)
-    List<Integer> findRandomQuestionsByCategory(String category, int numQ);
+    @Query("SELECT DISTINCT q.category FROM Question q WHERE q.category IS NOT NULL")
+    List<String> findDistinctCategories();
+
+    @Query("SELECT q.id FROM Question q WHERE q.category = :category")
+    List<Integer> findIdsByCategory(String category);
+
+    @Query("SELECT new com.example.questionservice.model.QuestionCategory(q.id, q.category) FROM Question q WHERE q.id > :id AND q.category IS NOT NULL")
+    List<QuestionCategory> findCategoriesByIdGreaterThan(int id);
+
+    // one IN query for a batch of ids, selecting only what the user sees (no rightAnswer); order is not guaranteed
+    @Query("SELECT new com.example.questionservice.model.QuestionWrapper(q.id, q.questionTitle, q.option1, q.option2, q.option3, q.option4) FROM Question q WHERE q.id IN :ids")
+    List<QuestionWrapper> findWrappersByIdIn(Collection<Integer> ids);
+
+    @Query("SELECT new com.example.questionservice.model.AnswerKey(q.id, q.rightAnswer) FROM Question q WHERE q.id IN :ids")
+    List<AnswerKey> findAnswerKeysByIdIn(Collection<Integer> ids);
 }
@@ -0,0 +1,5 @@
+package com.example.questionservice.model;
+
+// id and right answer only, loaded for scoring without the rest of the question
+public record AnswerKey(Integer id, String rightAnswer) {
+}
@@ -0,0 +1,8 @@
+package com.example.questionservice.model;
+
+import java.util.List;
+
+// answer keys for a set of question ids; version is a hash of the (id, rightAnswer) pairs, so every
+// instance gives the same version for the same answers and it changes when any of them changes
+public record AnswerKeySnapshot(String version, List<AnswerKey> answerKeys) {
+}
@@ -0,0 +1,5 @@
+package com.example.questionservice.model;
+
+// id and category only, read to keep the category id pool in step with other instances
+public record QuestionCategory(Integer id, String category) {
+}
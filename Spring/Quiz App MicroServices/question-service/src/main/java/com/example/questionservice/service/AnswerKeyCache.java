@@ -0,0 +1,129 @@
+package com.example.questionservice.service;
+
+import com.example.questionservice.dao.QuestionDao;
+import com.example.questionservice.model.AnswerKey;
+import com.example.questionservice.model.AnswerKeySnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Right answer per question id, kept in memory so scoring does not read the question table.
+// Ids are loaded on first use with one IN query and put again on addQuestion. An entry is read
+// again after ttl, so an answer corrected through another instance (or a script) is picked up
+// here within ttl; past max-size the least used ids make room. Ids the database does not have
+// are remembered for unknown-ttl, so a bogus id in every submission does not cost a query each time.
+@Component
+public class AnswerKeyCache {
+
+    @Autowired
+    QuestionDao questionDao;
+
+    private final Cache<Integer, String> rightAnswers;
+    private final Cache<Integer, Boolean> unknownIds;
+
+    public AnswerKeyCache(@Value("${question.answer-keys.ttl:30s}") Duration ttl,
+                          @Value("${question.answer-keys.max-size:100000}") long maxSize,
+                          @Value("${question.answer-keys.unknown-ttl:1m}") Duration unknownTtl,
+                          @Value("${question.answer-keys.unknown-max-size:10000}") long unknownMaxSize) {
+        rightAnswers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        unknownIds = Caffeine.newBuilder()
+                .maximumSize(unknownMaxSize)
+                .expireAfterWrite(unknownTtl)
+                .build();
+    }
+
+    // a saved question; always wins over what a load read from the database
+    public void put(Integer id, String rightAnswer) {
+        if (rightAnswer == null) {
+            rightAnswers.invalidate(id);
+        } else {
+            rightAnswers.put(id, rightAnswer);
+            unknownIds.invalidate(id);
+        }
+    }
+
+    // null for an unknown id or one not cached (yet, or any more)
+    public String get(Integer id) {
+        return id == null ? null : rightAnswers.getIfPresent(id);
+    }
+
+    // the right answer of each known id among ids, at most one query and only when something is missing
+    public Map<Integer, String> answers(Collection<Integer> ids) {
+        Map<Integer, String> answers = new HashMap<>(ids.size() * 2);
+        List<Integer> missing = null;
+        for (Integer id : ids) {
+            if (id == null || answers.containsKey(id)) continue;
+            String rightAnswer = rightAnswers.getIfPresent(id);
+            if (rightAnswer != null) {
+                answers.put(id, rightAnswer);
+            } else if (unknownIds.getIfPresent(id) == null) {
+                if (missing == null) missing = new ArrayList<>();
+                missing.add(id);
+            }
+        }
+        if (missing != null) load(missing, answers);
+        return answers;
+    }
+
+    // the keys of the given questions, for callers that score on their side; unknown ids are left out
+    public AnswerKeySnapshot snapshot(Collection<Integer> ids) {
+        Map<Integer, String> answers = answers(ids);
+        List<AnswerKey> keys = new ArrayList<>(answers.size());
+        for (Integer id : ids) {
+            String rightAnswer = id == null ? null : answers.get(id);
+            if (rightAnswer != null) keys.add(new AnswerKey(id, rightAnswer));
+        }
+        return new AnswerKeySnapshot(version(answers), keys);
+    }
+
+    // SHA-256 over the pairs in id order, so neither the order nor repeats of the requested ids matter
+    private static String version(Map<Integer, String> answers) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Map.Entry<Integer, String> answer : new TreeMap<>(answers).entrySet()) {
+                digest.update((answer.getKey() + "=" + answer.getValue() + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void load(List<Integer> ids, Map<Integer, String> answers) {
+        for (AnswerKey key : questionDao.findAnswerKeysByIdIn(ids)) {
+            if (key.rightAnswer() != null) answers.put(key.id(), loaded(key.id(), key.rightAnswer()));
+        }
+        for (Integer id : ids) {
+            if (!answers.containsKey(id)) unknownIds.put(id, Boolean.TRUE);
+        }
+    }
+
+    // a value read from the database, possibly before a concurrent put(); never replaces that put.
+    // Returns what is cached now
+    private String loaded(Integer id, String rightAnswer) {
+        String newer = rightAnswers.asMap().putIfAbsent(id, rightAnswer);
+        unknownIds.invalidate(id);
+        return newer == null ? rightAnswer : newer;
+    }
+
+    public long size() {
+        return rightAnswers.estimatedSize();
+    }
+}
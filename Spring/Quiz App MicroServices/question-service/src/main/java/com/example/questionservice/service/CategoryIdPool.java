@@ -0,0 +1,176 @@
+package com.example.questionservice.service;
+
+import com.example.questionservice.dao.QuestionDao;
+import com.example.questionservice.model.QuestionCategory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Question ids per category as a plain int[], so a random quiz is picked in memory in O(numQ)
+// instead of ORDER BY RANDOM() sorting the whole category. Filled before the server takes requests
+// and on addQuestion; every refresh-interval the ids above the highest one seen are read again, so
+// questions inserted by another instance show up within it. A category changed through another
+// instance is only picked up after a restart.
+@Component
+public class CategoryIdPool {
+
+    // identity ids are handed out before commit, so a lower id can commit after a higher one was read:
+    // each refresh reads this far below the highest id again
+    static final int REFRESH_OVERLAP = 100;
+
+    @Autowired
+    QuestionDao questionDao;
+
+    private final Duration refreshInterval;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+    private final Map<Integer, String> categories = new HashMap<>(); // where each id is, guarded by this
+    private int highestId; // guarded by this
+    private ScheduledExecutorService refresher;
+
+    public CategoryIdPool(@Value("${question.category-pool.refresh-interval:10s}") Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    // before the web server starts, so /question/generate never sees a half-filled pool
+    @PostConstruct
+    public void start() {
+        load();
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "category-pool-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = refreshInterval.toMillis();
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (refresher != null) refresher.shutdownNow();
+    }
+
+    void load() {
+        Map<String, List<Integer>> loaded = new HashMap<>();
+        for (String category : questionDao.findDistinctCategories()) {
+            loaded.put(category, questionDao.findIdsByCategory(category));
+        }
+        synchronized (this) {
+            loaded.forEach((category, ids) -> {
+                for (Integer id : ids) {
+                    if (!categories.containsKey(id)) add(category, id);
+                    highestId = Math.max(highestId, id);
+                }
+            });
+        }
+        System.out.println("Loaded question ids for " + loaded.size() + " categories");
+    }
+
+    // ids another instance added since the last read; ids already here are left alone, since
+    // addQuestion on this instance knows their category better than a read that may be older
+    void refresh() {
+        int since;
+        synchronized (this) {
+            since = highestId - REFRESH_OVERLAP;
+        }
+        List<QuestionCategory> added = questionDao.findCategoriesByIdGreaterThan(since);
+        synchronized (this) {
+            for (QuestionCategory question : added) {
+                if (!categories.containsKey(question.id())) add(question.category(), question.id());
+                highestId = Math.max(highestId, question.id());
+            }
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            System.out.println("Could not refresh question ids: " + e.getMessage());
+        }
+    }
+
+    // a saved question: a new id is added, an existing one moves if its category changed (or leaves, if it has none)
+    public synchronized void add(String category, int id) {
+        String previous = category == null ? categories.remove(id) : categories.put(id, category);
+        if (Objects.equals(previous, category)) return;
+        if (previous != null) pools.get(previous).remove(id);
+        if (category != null) pools.computeIfAbsent(category, c -> new Pool(16)).add(id);
+    }
+
+    // numQ distinct random ids from the category, fewer if the category is smaller
+    public List<Integer> random(String category, int numQ) {
+        Pool pool = category == null ? null : pools.get(category);
+        if (pool == null || numQ <= 0) return new ArrayList<>();
+        return pool.random(numQ);
+    }
+
+    public int size(String category) {
+        Pool pool = pools.get(category);
+        return pool == null ? 0 : pool.size();
+    }
+
+    private static final class Pool {
+
+        private int[] ids;
+        private int size;
+        private final Map<Integer, Integer> positions = new HashMap<>(); // index of each id in ids
+
+        Pool(int capacity) {
+            ids = new int[Math.max(capacity, 16)];
+        }
+
+        synchronized void add(int id) {
+            if (positions.containsKey(id)) return;
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            positions.put(id, size);
+            ids[size++] = id;
+        }
+
+        // the last id takes the removed one's place
+        synchronized void remove(int id) {
+            Integer at = positions.remove(id);
+            if (at == null) return;
+            int last = ids[--size];
+            if (at != size) {
+                ids[at] = last;
+                positions.put(last, at);
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        // partial Fisher–Yates: shuffles only the first k slots; the array stays a permutation of the pool
+        synchronized List<Integer> random(int numQ) {
+            int k = Math.min(numQ, size);
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            List<Integer> picked = new ArrayList<>(k);
+            for (int i = 0; i < k; i++) {
+                int j = i + random.nextInt(size - i);
+                int id = ids[j];
+                ids[j] = ids[i];
+                ids[i] = id;
+                positions.put(ids[j], j);
+                positions.put(id, i);
+                picked.add(id);
+            }
+            return picked;
+        }
+    }
+}
@@ -1,23 +1,38 @@
 package com.example.questionservice.service;
 
 import com.example.questionservice.dao.QuestionDao;
+import com.example.questionservice.model.AnswerKeySnapshot;
 import com.example.questionservice.model.Question;
 import com.example.questionservice.model.QuestionWrapper;
 import com.example.questionservice.model.Response;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class QuestionService {
     @Autowired
     QuestionDao questionDao;
 
+    @Autowired
+    AnswerKeyCache answerKeyCache;
+
+    @Autowired
+    CategoryIdPool categoryIdPool;
+
+    // ids per IN query, keeps the bind-parameter list small for very large quizzes
+    @Value("${question.fetch.chunk-size:500}")
+    int fetchChunkSize = 500;
+
     public ResponseEntity<List<Question>> getAllQuestions() {
         try {
             return new ResponseEntity<>(questionDao.findAll(), HttpStatus.OK);
@@ -40,33 +55,60 @@ public class QuestionService {
     }
 
     public ResponseEntity<String> addQuestion(Question question) {
-        questionDao.save(question);
+        Question saved = questionDao.save(question);
+        answerKeyCache.put(saved.getId(), saved.getRightAnswer());
+        categoryIdPool.add(saved.getCategory(), saved.getId());
         return new ResponseEntity<>("success", HttpStatus.CREATED);
     }
 
 
     public ResponseEntity<List<Integer>> getQuestionsForQuiz(String category, Integer numQ) {
-        List<Integer> questions = questionDao.findRandomQuestionsByCategory(category, numQ);
+        List<Integer> questions = categoryIdPool.random(category, numQ);
         return new ResponseEntity<>(questions, HttpStatus.CREATED);
     }
 
+    // questions come back in the requested order; an id that does not exist gives a null entry
     public ResponseEntity<List<QuestionWrapper>> getQuestionsFromId(List<Integer> questionIds) {
-        List<QuestionWrapper> questionsForUser = new ArrayList<>();
+        List<Integer> distinctIds = new ArrayList<>(new LinkedHashSet<>(questionIds));
+        distinctIds.remove(null);
 
+        Map<Integer, QuestionWrapper> byId = new HashMap<>(distinctIds.size() * 2);
+        for (int from = 0; from < distinctIds.size(); from += fetchChunkSize) {
+            List<Integer> chunk = distinctIds.subList(from, Math.min(from + fetchChunkSize, distinctIds.size()));
+            for (QuestionWrapper qw : questionDao.findWrappersByIdIn(chunk)) {
+                byId.put(qw.getId(), qw);
+            }
+        }
+
+        List<QuestionWrapper> questionsForUser = new ArrayList<>(questionIds.size());
         for (Integer id : questionIds) {
-            Question q = questionDao.findById(id).orElse(new Question());
-            QuestionWrapper qw = new QuestionWrapper(q.getId(), q.getQuestionTitle(), q.getOption1(), q.getOption2(), q.getOption3(), q.getOption4());
-            questionsForUser.add(qw);
+            questionsForUser.add(id == null ? null : byId.get(id));
         }
         return new ResponseEntity<>(questionsForUser, HttpStatus.OK);
 
     }
 
+    // 304 without a body when the caller already holds this version (sent as If-None-Match)
+    public ResponseEntity<AnswerKeySnapshot> getAnswerKeys(List<Integer> questionIds, String ifNoneMatch) {
+        AnswerKeySnapshot snapshot = answerKeyCache.snapshot(questionIds);
+        String etag = "\"" + snapshot.version() + "\"";
+        if (etag.equals(ifNoneMatch)) return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        return ResponseEntity.ok().eTag(etag).body(snapshot);
+    }
+
+    // answers are checked against the in-memory answer keys; an unknown question id scores nothing
     public ResponseEntity<Integer> getScore(List<Response> responseList) {
+        List<Integer> ids = new ArrayList<>(responseList.size());
+        for (int i = 0; i < responseList.size(); i++) {
+            ids.add(responseList.get(i).getId());
+        }
+        Map<Integer, String> rightAnswers = answerKeyCache.answers(ids);
+
         int score = 0;
-        for (Response response : responseList) {
-            Question question = questionDao.findById(response.getId()).orElse(new Question());
-            if (question.getRightAnswer().equals(response.getResponse()))
+        for (int i = 0; i < responseList.size(); i++) {
+            Response response = responseList.get(i);
+            String rightAnswer = response.getId() == null ? null : rightAnswers.get(response.getId());
+            if (rightAnswer != null && rightAnswer.equals(response.getResponse()))
                 score++;
         }
         return ResponseEntity.ok(score);
@@ -0,0 +1,91 @@
+package com.example.questionservice;
+
+import com.example.questionservice.dao.QuestionDao;
+import com.example.questionservice.model.Question;
+import com.example.questionservice.model.QuestionWrapper;
+import com.example.questionservice.service.QuestionService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+// getQuestionsFromId latency by number of ids: one findById per id (the old loop) vs the batched IN query.
+// Runs on in-memory H2 by default; pass a JDBC url, user and password to measure against PostgreSQL,
+// where every extra round trip also pays network latency. run main() from the IDE
+public class QuestionFetchBenchmark {
+
+    private static final int QUESTIONS = 10_000;
+    private static final int[] SIZES = {1, 10, 50, 100, 500, 1000, 5000};
+
+    public static void main(String[] args) {
+        String url = args.length > 0 ? args[0] : "jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1";
+        String dialect = url.startsWith("jdbc:h2") ? "org.hibernate.dialect.H2Dialect" : "org.hibernate.dialect.PostgreSQLDialect";
+
+        // passed as command-line args so they win over application.properties
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(QuestionServiceApplication.class)
+                .run("--spring.datasource.url=" + url,
+                        "--spring.datasource.driver-class-name=",
+                        "--spring.datasource.username=" + (args.length > 1 ? args[1] : "sa"),
+                        "--spring.datasource.password=" + (args.length > 2 ? args[2] : ""),
+                        "--spring.jpa.properties.hibernate.dialect=" + dialect,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.web-application-type=none",
+                        "--eureka.client.enabled=false")) {
+
+            QuestionDao questionDao = context.getBean(QuestionDao.class);
+            QuestionService questionService = context.getBean(QuestionService.class);
+            List<Integer> allIds = seed(questionDao);
+            Random random = new Random(42);
+
+            System.out.printf("%6s %14s %14s%n", "ids", "per-id (ms)", "batched (ms)");
+            for (int size : SIZES) {
+                Collections.shuffle(allIds, random);
+                List<Integer> ids = new ArrayList<>(allIds.subList(0, size));
+                int rounds = Math.max(5, 2000 / size);
+
+                double perId = time(rounds, () -> perIdLoop(questionDao, ids));
+                double batched = time(rounds, () -> questionService.getQuestionsFromId(ids));
+                System.out.printf("%6d %14.3f %14.3f%n", size, perId, batched);
+            }
+        }
+    }
+
+    // the previous implementation of QuestionService.getQuestionsFromId
+    private static List<QuestionWrapper> perIdLoop(QuestionDao questionDao, List<Integer> ids) {
+        List<QuestionWrapper> questionsForUser = new ArrayList<>();
+        for (Integer id : ids) {
+            Question q = questionDao.findById(id).orElse(new Question());
+            questionsForUser.add(new QuestionWrapper(q.getId(), q.getQuestionTitle(), q.getOption1(), q.getOption2(), q.getOption3(), q.getOption4()));
+        }
+        return questionsForUser;
+    }
+
+    private static double time(int rounds, Runnable call) {
+        for (int i = 0; i < rounds; i++) call.run(); // warm-up
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) call.run();
+        return (System.nanoTime() - start) / 1e6 / rounds;
+    }
+
+    private static List<Integer> seed(QuestionDao questionDao) {
+        List<Question> questions = new ArrayList<>(QUESTIONS);
+        for (int i = 0; i < QUESTIONS; i++) {
+            Question question = new Question();
+            question.setQuestionTitle("Benchmark question " + i);
+            question.setOption1("a");
+            question.setOption2("b");
+            question.setOption3("c");
+            question.setOption4("d");
+            question.setRightAnswer("a");
+            question.setDifficultyLevel("easy");
+            question.setCategory("benchmark");
+            questions.add(question);
+        }
+        List<Integer> ids = new ArrayList<>(QUESTIONS);
+        questionDao.saveAll(questions).forEach(q -> ids.add(q.getId()));
+        return ids;
+    }
+}
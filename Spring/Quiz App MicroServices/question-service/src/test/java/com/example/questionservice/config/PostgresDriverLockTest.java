@@ -0,0 +1,21 @@
+package com.example.questionservice.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// In virtual mode a query must not pin its carrier while it waits on the socket. pgjdbc 42.6+ guards
+// its protocol I/O with a ReentrantLock (QueryExecutorBase.lock) instead of synchronized; this fails if
+// a driver change goes back to monitors, and PinnedThreadMonitor would start reporting JDBC frames.
+class PostgresDriverLockTest {
+
+    @Test
+    void testQueryExecutorIsGuardedByAReentrantLock() throws Exception {
+        Field lock = Class.forName("org.postgresql.core.QueryExecutorBase").getDeclaredField("lock");
+
+        assertTrue(ReentrantLock.class.isAssignableFrom(lock.getType()), lock.getType().getName());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.questionservice.service;
+
+import com.example.questionservice.dao.QuestionDao;
+import com.example.questionservice.model.AnswerKey;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AnswerKeyCacheTest {
+
+    private final QuestionDao questionDao = mock(QuestionDao.class);
+
+    @Test
+    void testAnswerChangedElsewhereIsReadAgainAfterTtl() throws InterruptedException {
+        when(questionDao.findAnswerKeysByIdIn(any()))
+                .thenReturn(List.of(new AnswerKey(1, "a")))
+                .thenReturn(List.of(new AnswerKey(1, "b"))); // corrected through another instance
+        AnswerKeyCache cache = cache(Duration.ofMillis(100));
+
+        assertEquals("a", cache.answers(List.of(1)).get(1));
+        assertEquals("a", cache.answers(List.of(1)).get(1));
+        Thread.sleep(200);
+        assertEquals("b", cache.answers(List.of(1)).get(1));
+        verify(questionDao, times(2)).findAnswerKeysByIdIn(any());
+    }
+
+    @Test
+    void testLoadDoesNotOverwriteANewerAnswer() {
+        AnswerKeyCache cache = cache(Duration.ofMinutes(1));
+        when(questionDao.findAnswerKeysByIdIn(any())).thenAnswer(invocation -> {
+            cache.put(1, "b"); // saved after the load read "a"
+            return List.of(new AnswerKey(1, "a"));
+        });
+
+        assertEquals("b", cache.answers(List.of(1)).get(1));
+        assertEquals("b", cache.get(1));
+    }
+
+    private AnswerKeyCache cache(Duration ttl) {
+        AnswerKeyCache cache = new AnswerKeyCache(ttl, 100, Duration.ofMinutes(1), 100);
+        cache.questionDao = questionDao;
+        return cache;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.questionservice.service;
+
+import com.example.questionservice.dao.QuestionDao;
+import com.example.questionservice.model.QuestionCategory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CategoryIdPoolTest {
+
+    private final CategoryIdPool pool = new CategoryIdPool(Duration.ofSeconds(10));
+
+    @Test
+    void testPicksDistinctIdsFromTheCategory() {
+        for (int id = 1; id <= 1000; id++) pool.add(id % 2 == 0 ? "java" : "python", id);
+
+        for (int round = 0; round < 100; round++) {
+            List<Integer> picked = pool.random("java", 10);
+
+            assertEquals(10, picked.size());
+            assertEquals(10, new HashSet<>(picked).size());
+            picked.forEach(id -> assertEquals(0, id % 2));
+        }
+    }
+
+    @Test
+    void testSmallCategoryReturnsEverything() {
+        pool.add("java", 1);
+        pool.add("java", 2);
+        pool.add("java", 3);
+
+        assertEquals(Set.of(1, 2, 3), new HashSet<>(pool.random("java", 10)));
+    }
+
+    @Test
+    void testUnknownCategoryIsEmpty() {
+        assertTrue(pool.random("go", 5).isEmpty());
+        assertTrue(pool.random(null, 5).isEmpty());
+    }
+
+    @Test
+    void testEveryIdCanBePicked() {
+        for (int id = 0; id < 20; id++) pool.add("java", id);
+
+        Set<Integer> seen = new HashSet<>();
+        for (int round = 0; round < 1000; round++) seen.addAll(pool.random("java", 1));
+
+        assertEquals(20, seen.size());
+        assertEquals(20, pool.size("java"));
+    }
+
+    @Test
+    void testSavingAgainNeverDuplicatesAnId() {
+        for (int id = 1; id <= 5; id++) pool.add("java", id);
+        pool.add("java", 3);
+        pool.add("java", 3);
+
+        assertEquals(5, pool.size("java"));
+        for (int round = 0; round < 100; round++) assertEquals(5, new HashSet<>(pool.random("java", 5)).size());
+    }
+
+    @Test
+    void testChangedCategoryMovesTheId() {
+        for (int id = 1; id <= 4; id++) pool.add("java", id);
+        pool.random("java", 4); // reorders the pool
+
+        pool.add("python", 2);
+        pool.add(null, 3);
+
+        assertEquals(Set.of(1, 4), new HashSet<>(pool.random("java", 10)));
+        assertEquals(List.of(2), pool.random("python", 10));
+    }
+
+    @Test
+    void testLoadKeepsIdsAddedBeforeIt() {
+        QuestionDao questionDao = mock(QuestionDao.class);
+        when(questionDao.findDistinctCategories()).thenReturn(List.of("java"));
+        when(questionDao.findIdsByCategory("java")).thenReturn(List.of(1, 2, 3));
+        pool.questionDao = questionDao;
+
+        // saved while the server was starting: one new question, one moved out of java
+        pool.add("java", 4);
+        pool.add("python", 3);
+        pool.load();
+
+        assertEquals(Set.of(1, 2, 4), new HashSet<>(pool.random("java", 10)));
+        assertEquals(List.of(3), pool.random("python", 10));
+    }
+
+    @Test
+    void testRefreshAddsIdsFromOtherInstances() {
+        QuestionDao questionDao = mock(QuestionDao.class);
+        when(questionDao.findDistinctCategories()).thenReturn(List.of("java"));
+        when(questionDao.findIdsByCategory("java")).thenReturn(List.of(1, 200));
+        pool.questionDao = questionDao;
+        pool.load();
+
+        // 150 committed late, below the highest id already read; 200 is known and keeps its category
+        when(questionDao.findCategoriesByIdGreaterThan(200 - CategoryIdPool.REFRESH_OVERLAP)).thenReturn(List.of(
+                new QuestionCategory(150, "java"),
+                new QuestionCategory(200, "python"),
+                new QuestionCategory(201, "python")));
+        pool.refresh();
+
+        assertEquals(Set.of(1, 150, 200), new HashSet<>(pool.random("java", 10)));
+        assertEquals(List.of(201), pool.random("python", 10));
+
+        pool.refresh();
+        verify(questionDao).findCategoriesByIdGreaterThan(201 - CategoryIdPool.REFRESH_OVERLAP);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.questionservice.service;
+
+import com.example.questionservice.dao.QuestionDao;
+import com.example.questionservice.model.Question;
+import com.example.questionservice.model.QuestionWrapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Embedded H2; the chunk size is 2 here so chunking is exercised with a handful of rows
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "question.fetch.chunk-size=2"
+})
+@Import({QuestionService.class, AnswerKeyCache.class, CategoryIdPool.class})
+class QuestionServiceFetchTest {
+
+    @Autowired
+    private QuestionService questionService;
+    @Autowired
+    private QuestionDao questionDao;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Integer> ids = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 5; i++) {
+            Question question = new Question();
+            question.setQuestionTitle("Question " + i);
+            question.setOption1("a");
+            question.setOption2("b");
+            question.setOption3("c");
+            question.setOption4("d");
+            question.setRightAnswer("a");
+            question.setCategory("java");
+            ids.add(questionDao.save(question).getId());
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testKeepsRequestedOrder() {
+        List<Integer> requested = List.of(ids.get(4), ids.get(0), ids.get(2), ids.get(0));
+
+        List<QuestionWrapper> result = questionService.getQuestionsFromId(requested).getBody();
+
+        assertEquals(requested, result.stream().map(QuestionWrapper::getId).toList());
+        assertEquals("Question 5", result.get(0).getQuestionTitle());
+        assertEquals(2, statistics.getPrepareStatementCount()); // 3 distinct ids in chunks of 2
+    }
+
+    @Test
+    void testMissingIdsAreNull() {
+        List<QuestionWrapper> result = questionService.getQuestionsFromId(Arrays.asList(ids.get(1), -1, null)).getBody();
+
+        assertEquals(3, result.size());
+        assertEquals(ids.get(1), result.get(0).getId());
+        assertNull(result.get(1));
+        assertNull(result.get(2));
+    }
+
+    @Test
+    void testEmptyListRunsNoQuery() {
+        assertTrue(questionService.getQuestionsFromId(List.of()).getBody().isEmpty());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.questionservice.service;
+
+import com.example.questionservice.model.AnswerKey;
+import com.example.questionservice.model.AnswerKeySnapshot;
+import com.example.questionservice.model.Question;
+import com.example.questionservice.model.Response;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({QuestionService.class, AnswerKeyCache.class, CategoryIdPool.class})
+class QuestionServiceScoreTest {
+
+    private static final int QUESTIONS = 100;
+
+    @Autowired
+    private QuestionService questionService;
+    @Autowired
+    private AnswerKeyCache answerKeyCache;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Integer> ids = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < QUESTIONS; i++) {
+            questionService.addQuestion(question("Question " + i, "a"));
+        }
+        ids.addAll(questionService.getAllQuestions().getBody().stream().map(Question::getId).toList());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testScoresFromCacheWithoutQueries() {
+        List<Response> responses = new ArrayList<>();
+        for (int i = 0; i < QUESTIONS; i++) {
+            responses.add(response(ids.get(i), i % 2 == 0 ? "a" : "b"));
+        }
+
+        assertEquals(QUESTIONS / 2, questionService.getScore(responses).getBody());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testUnknownIdScoresZero() {
+        List<Response> responses = List.of(response(-2, "a"), response(null, "a"), response(ids.get(0), "a"));
+
+        assertEquals(1, questionService.getScore(responses).getBody());
+        assertEquals(1, statistics.getPrepareStatementCount()); // one lookup for the unknown id
+
+        assertEquals(1, questionService.getScore(responses).getBody());
+        assertEquals(1, statistics.getPrepareStatementCount()); // remembered as unknown
+    }
+
+    @Test
+    void testUnknownIdIsForgottenOnceAdded() {
+        questionService.getScore(List.of(response(-3, "a")));
+        answerKeyCache.put(-3, "a");
+
+        assertEquals(1, questionService.getScore(List.of(response(-3, "a"))).getBody());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        answerKeyCache.put(-3, null);
+    }
+
+    @Test
+    void testMissingKeysAreLoadedInOneQuery() {
+        answerKeyCache.put(ids.get(0), null);
+        answerKeyCache.put(ids.get(1), null);
+
+        int score = questionService.getScore(List.of(response(ids.get(0), "a"), response(ids.get(1), "a"))).getBody();
+
+        assertEquals(2, score);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testAnswerKeySnapshot() {
+        AnswerKeySnapshot snapshot = questionService.getAnswerKeys(List.of(ids.get(0), -1, ids.get(1)), null).getBody();
+
+        assertEquals(List.of(new AnswerKey(ids.get(0), "a"), new AnswerKey(ids.get(1), "a")), snapshot.answerKeys());
+    }
+
+    @Test
+    void testSnapshotVersionFollowsTheAnswers() {
+        List<Integer> quiz = List.of(ids.get(0), ids.get(1));
+        ResponseEntity<AnswerKeySnapshot> first = questionService.getAnswerKeys(quiz, null);
+        String etag = first.getHeaders().getETag();
+
+        assertEquals(first.getBody().version(), questionService.getAnswerKeys(List.of(ids.get(1), ids.get(0)), null).getBody().version());
+        assertEquals(HttpStatus.NOT_MODIFIED, questionService.getAnswerKeys(quiz, etag).getStatusCode());
+
+        answerKeyCache.put(ids.get(0), "b");
+        ResponseEntity<AnswerKeySnapshot> changed = questionService.getAnswerKeys(quiz, etag);
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertNotEquals(first.getBody().version(), changed.getBody().version());
+        answerKeyCache.put(ids.get(0), "a");
+    }
+
+    private static Question question(String title, String rightAnswer) {
+        Question question = new Question();
+        question.setQuestionTitle(title);
+        question.setOption1("a");
+        question.setOption2("b");
+        question.setOption3("c");
+        question.setOption4("d");
+        question.setRightAnswer(rightAnswer);
+        question.setCategory("java");
+        return question;
+    }
+
+    private static Response response(Integer id, String answer) {
+        Response response = new Response();
+        response.setId(id);
+        response.setResponse(answer);
+        return response;
+    }
+}
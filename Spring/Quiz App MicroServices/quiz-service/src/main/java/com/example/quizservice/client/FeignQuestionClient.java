@@ -0,0 +1,57 @@
+package com.example.quizservice.client;
+
+import com.example.quizservice.feign.QuizInterface;
+import com.example.quizservice.model.AnswerKeySnapshot;
+import com.example.quizservice.model.QuestionWrapper;
+import com.example.quizservice.model.Response;
+import feign.FeignException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Blocking Feign calls, each run as an @Async task on the application task executor: a pool of
+// platform threads by default, one virtual thread per call with spring.threads.virtual.enabled.
+@Component
+@Qualifier("questionTransport")
+@ConditionalOnProperty(name = "quiz.question-client.mode", havingValue = "feign")
+public class FeignQuestionClient implements QuestionClient {
+
+    @Autowired
+    QuizInterface quizInterface;
+
+    @Async
+    @Override
+    public CompletableFuture<List<Integer>> getQuestionsForQuiz(String category, Integer numQ) {
+        return CompletableFuture.completedFuture(quizInterface.getQuestionsForQuiz(category, numQ).getBody());
+    }
+
+    @Async
+    @Override
+    public CompletableFuture<List<QuestionWrapper>> getQuestionsFromId(List<Integer> questionIds) {
+        return CompletableFuture.completedFuture(quizInterface.getQuestionsFromId(questionIds).getBody());
+    }
+
+    @Async
+    @Override
+    public CompletableFuture<Integer> getScore(List<Response> responses) {
+        return CompletableFuture.completedFuture(quizInterface.getScore(responses).getBody());
+    }
+
+    @Async
+    @Override
+    public CompletableFuture<AnswerKeySnapshot> getAnswerKeys(List<Integer> questionIds, String knownVersion) {
+        try {
+            return CompletableFuture.completedFuture(quizInterface.getAnswerKeys(questionIds,
+                    knownVersion == null ? null : "\"" + knownVersion + "\"").getBody());
+        } catch (FeignException e) {
+            if (e.status() == HttpStatus.NOT_MODIFIED.value()) return CompletableFuture.completedFuture(null); // Feign treats any non-2xx as an error
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.quizservice.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// What quiz-service has seen of one question-service instance: calls in flight, a peak-EWMA of the
+// response time, and a latency histogram. Peak-EWMA jumps straight up to a slower response and only
+// decays back down with time (tau), so one slow instance is avoided quickly and retried gradually.
+public class InstanceStats {
+
+    // histogram bucket upper bounds in ms, the last bucket is everything slower
+    static final long[] BOUNDS_MILLIS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000};
+
+    // cost of an instance that has calls in flight but no measured response yet, so new instances
+    // get probed by a few calls instead of all of them
+    private static final double PENALTY_NANOS = 1e9;
+
+    private final double tauNanos;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS_MILLIS.length + 1);
+    private final AtomicLong failures = new AtomicLong();
+
+    private double ewmaNanos;
+    private long stampNanos;
+
+    InstanceStats(double tauNanos, long now) {
+        this.tauNanos = tauNanos;
+        this.stampNanos = now;
+    }
+
+    void start() {
+        outstanding.incrementAndGet();
+    }
+
+    void complete(long latencyNanos, boolean failed, long now) {
+        outstanding.decrementAndGet();
+        if (failed) failures.incrementAndGet();
+        if (latencyNanos < 0) return;
+
+        buckets.incrementAndGet(bucket(latencyNanos / 1_000_000));
+        synchronized (this) {
+            double w = weight(now);
+            ewmaNanos = latencyNanos > ewmaNanos ? latencyNanos : ewmaNanos * w + latencyNanos * (1 - w);
+            stampNanos = Math.max(stampNanos, now);
+        }
+    }
+
+    int outstanding() {
+        return outstanding.get();
+    }
+
+    // expected wait for one more call: latency estimate times the calls it would queue behind
+    double peakEwmaCost(long now) {
+        int inFlight = outstanding.get();
+        double ewma;
+        synchronized (this) {
+            ewma = decayed(now);
+        }
+        if (ewma == 0 && inFlight > 0) return PENALTY_NANOS + inFlight;
+        return ewma * (inFlight + 1);
+    }
+
+    // upper bound (ms) of the bucket holding the given percentile, -1 when nothing was recorded
+    public long percentileMillis(double percentile) {
+        long total = count();
+        if (total == 0) return -1;
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= Math.max(rank, 1)) return i < BOUNDS_MILLIS.length ? BOUNDS_MILLIS[i] : Long.MAX_VALUE;
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public long count() {
+        long total = 0;
+        for (int i = 0; i < buckets.length(); i++) total += buckets.get(i);
+        return total;
+    }
+
+    public Map<String, Object> snapshot(long now) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("outstanding", outstanding.get());
+        snapshot.put("calls", count());
+        snapshot.put("failures", failures.get());
+        synchronized (this) {
+            snapshot.put("ewmaMillis", decayed(now) / 1e6);
+        }
+        snapshot.put("p50Millis", percentileMillis(50));
+        snapshot.put("p99Millis", percentileMillis(99));
+
+        Map<String, Long> histogram = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length(); i++) {
+            histogram.put(i < BOUNDS_MILLIS.length ? "le" + BOUNDS_MILLIS[i] : "inf", buckets.get(i));
+        }
+        snapshot.put("histogramMillis", histogram);
+        return snapshot;
+    }
+
+    private double decayed(long now) {
+        return ewmaNanos * weight(now);
+    }
+
+    private double weight(long now) {
+        return Math.exp(-Math.max(now - stampNanos, 0) / tauNanos);
+    }
+
+    private static int bucket(long millis) {
+        for (int i = 0; i < BOUNDS_MILLIS.length; i++) {
+            if (millis <= BOUNDS_MILLIS[i]) return i;
+        }
+        return BOUNDS_MILLIS.length;
+    }
+}
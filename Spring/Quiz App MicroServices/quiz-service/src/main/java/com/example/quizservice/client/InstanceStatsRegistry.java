@@ -0,0 +1,117 @@
+package com.example.quizservice.client;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+// Keeps InstanceStats per load-balanced instance. As a LoadBalancerLifecycle it is told by Spring Cloud
+// LoadBalancer when a call (WebClient or Feign) is sent to an instance and when it completes, so the
+// stats cover every call quiz-service makes, whichever balancer strategy picked the instance.
+// A cancelled call (e.g. a timed out one) never gets onComplete, so calls still in flight after
+// in-flight-timeout are swept and counted as failed, otherwise their instance would look busy forever.
+@Component
+public class InstanceStatsRegistry implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+
+    private final Map<String, InstanceStats> stats = new ConcurrentHashMap<>();
+    private final Map<InFlightKey, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweep = new AtomicLong();
+    private final double tauNanos;
+    private final long inFlightTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public InstanceStatsRegistry(@Value("${quiz.load-balancer.decay:10s}") Duration decay,
+                                 @Value("${quiz.load-balancer.in-flight-timeout:30s}") Duration inFlightTimeout) {
+        this(decay, inFlightTimeout, System::nanoTime);
+    }
+
+    public InstanceStatsRegistry(Duration decay, Duration inFlightTimeout, LongSupplier nanoClock) {
+        this.tauNanos = decay.toNanos();
+        this.inFlightTimeoutNanos = inFlightTimeout.toNanos();
+        this.nanoClock = nanoClock;
+        this.nextSweep.set(nanoClock.getAsLong() + inFlightTimeoutNanos);
+    }
+
+    public InstanceStats get(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), k -> new InstanceStats(tauNanos, nanoClock.getAsLong()));
+    }
+
+    public long now() {
+        return nanoClock.getAsLong();
+    }
+
+    public Map<String, Object> snapshot() {
+        long now = nanoClock.getAsLong();
+        Map<String, Object> snapshot = new TreeMap<>();
+        stats.forEach((key, instanceStats) -> snapshot.put(key, instanceStats.snapshot(now)));
+        return snapshot;
+    }
+
+    @Override
+    public void onStart(Request<Object> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<Object> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse == null || !lbResponse.hasServer()) return;
+        long now = nanoClock.getAsLong();
+        sweepIfDue(now);
+
+        InstanceStats instanceStats = get(lbResponse.getServer());
+        instanceStats.start();
+        inFlight.put(new InFlightKey(request), new InFlight(instanceStats, now));
+    }
+
+    @Override
+    public void onComplete(CompletionContext<Object, ServiceInstance, Object> completionContext) {
+        Request<Object> request = completionContext.getLoadBalancerRequest();
+        InFlight call = request == null ? null : inFlight.remove(new InFlightKey(request));
+        if (call == null) return; // never started, or already swept
+
+        long now = nanoClock.getAsLong();
+        call.stats().complete(now - call.startNanos(), completionContext.status() == CompletionContext.Status.FAILED, now);
+    }
+
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now < due || !nextSweep.compareAndSet(due, now + inFlightTimeoutNanos / 2)) return;
+
+        inFlight.forEach((key, call) -> {
+            if (now - call.startNanos() > inFlightTimeoutNanos && inFlight.remove(key, call)) {
+                call.stats().complete(now - call.startNanos(), true, now);
+            }
+        });
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getInstanceId() != null ? instance.getInstanceId() : instance.getHost() + ":" + instance.getPort();
+    }
+
+    private record InFlight(InstanceStats stats, long startNanos) {
+    }
+
+    // DefaultRequest compares by content, two identical calls in flight must still be told apart
+    private record InFlightKey(Request<?> request) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof InFlightKey key && key.request == request;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(request);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.quizservice.client;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Picks a question-service instance by "power of two choices": two random instances are compared and
+// the cheaper one wins. Comparing two instead of scanning all keeps every choice O(1) and stops all
+// callers piling onto the same "best" instance at once. The cost is either the number of calls in flight
+// (least-outstanding) or that times the peak-EWMA latency (peak-ewma), both from InstanceStatsRegistry.
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    public enum Strategy { LEAST_OUTSTANDING, PEAK_EWMA }
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final Strategy strategy;
+    private final InstanceStatsRegistry stats;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider, String serviceId,
+                                    Strategy strategy, InstanceStatsRegistry stats) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.strategy = strategy;
+        this.stats = stats;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(this::choose);
+    }
+
+    Response<ServiceInstance> choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            System.out.println("No servers available for service: " + serviceId);
+            return new EmptyResponse();
+        }
+        if (instances.size() == 1) return new DefaultResponse(instances.get(0));
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(instances.size());
+        int second = random.nextInt(instances.size() - 1);
+        if (second >= first) second++;
+
+        ServiceInstance a = instances.get(first);
+        ServiceInstance b = instances.get(second);
+        return new DefaultResponse(cost(b) < cost(a) ? b : a);
+    }
+
+    private double cost(ServiceInstance instance) {
+        InstanceStats instanceStats = stats.get(instance);
+        return strategy == Strategy.PEAK_EWMA ? instanceStats.peakEwmaCost(stats.now()) : instanceStats.outstanding();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.quizservice.client;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+// Balancer for the QUESTION-SERVICE child context (see QuestionLoadBalancerConfig). Deliberately not a
+// @Configuration: it must only be loaded by Spring Cloud LoadBalancer, not by component scanning.
+// quiz.load-balancer.strategy = peak-ewma | least-outstanding | round-robin (the Spring Cloud default)
+public class LatencyAwareLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> questionLoadBalancer(Environment environment,
+                                                                     LoadBalancerClientFactory clientFactory,
+                                                                     InstanceStatsRegistry stats) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        String strategy = environment.getProperty("quiz.load-balancer.strategy", "peak-ewma");
+        var suppliers = clientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class);
+
+        return switch (strategy) {
+            case "round-robin" -> new RoundRobinLoadBalancer(suppliers, serviceId);
+            case "least-outstanding" -> new LatencyAwareLoadBalancer(suppliers, serviceId, LatencyAwareLoadBalancer.Strategy.LEAST_OUTSTANDING, stats);
+            case "peak-ewma" -> new LatencyAwareLoadBalancer(suppliers, serviceId, LatencyAwareLoadBalancer.Strategy.PEAK_EWMA, stats);
+            default -> throw new IllegalArgumentException("Unknown quiz.load-balancer.strategy: " + strategy);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.quizservice.client;
+
+import com.example.quizservice.model.AnswerKeySnapshot;
+import com.example.quizservice.model.QuestionWrapper;
+import com.example.quizservice.model.Response;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Calls to QUESTION-SERVICE. quiz.question-client.mode picks the implementation:
+// webclient (default, non-blocking) or feign (the blocking QuizInterface).
+public interface QuestionClient {
+
+    CompletableFuture<List<Integer>> getQuestionsForQuiz(String category, Integer numQ);
+
+    CompletableFuture<List<QuestionWrapper>> getQuestionsFromId(List<Integer> questionIds);
+
+    CompletableFuture<Integer> getScore(List<Response> responses);
+
+    // knownVersion (may be null) is the version the caller holds; completes with null if it is still current
+    CompletableFuture<AnswerKeySnapshot> getAnswerKeys(List<Integer> questionIds, String knownVersion);
+}
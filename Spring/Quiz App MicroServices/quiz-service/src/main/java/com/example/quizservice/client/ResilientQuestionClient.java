@@ -0,0 +1,168 @@
+package com.example.quizservice.client;
+
+import com.example.quizservice.model.AnswerKeySnapshot;
+import com.example.quizservice.model.QuestionWrapper;
+import com.example.quizservice.model.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+// Wraps the transport to QUESTION-SERVICE so a slow or failing question-service can't take quiz-service down:
+//  - every call has its endpoint's timeout, and the request is cancelled when it expires
+//  - a bulkhead caps calls in flight; beyond it calls fail at once instead of queueing
+//  - a circuit breaker stops calling for a while once too many calls fail or time out
+//  - getQuestionsFromId (idempotent) can be hedged: if it has not answered after hedgeDelay,
+//    a second request is sent, whichever answers first wins and the other is cancelled
+public class ResilientQuestionClient implements QuestionClient {
+
+    public record Settings(int maxConcurrentCalls,
+                           Duration generateTimeout,
+                           Duration getQuestionsTimeout,
+                           Duration scoreTimeout,
+                           Duration answerKeysTimeout,
+                           Duration hedgeDelay,
+                           float failureRateThreshold,
+                           int minimumNumberOfCalls,
+                           Duration openStateWait) {
+    }
+
+    private final QuestionClient delegate;
+    private final Settings settings;
+    private final Bulkhead bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    private final TimeLimiter generateLimiter;
+    private final TimeLimiter getQuestionsLimiter;
+    private final TimeLimiter scoreLimiter;
+    private final TimeLimiter answerKeysLimiter;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "question-client-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final LongAdder hedges = new LongAdder();
+
+    public ResilientQuestionClient(QuestionClient delegate, Settings settings) {
+        this.delegate = delegate;
+        this.settings = settings;
+        bulkhead = Bulkhead.of("question-service", BulkheadConfig.custom()
+                .maxConcurrentCalls(settings.maxConcurrentCalls())
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        circuitBreaker = CircuitBreaker.of("question-service", CircuitBreakerConfig.custom()
+                .failureRateThreshold(settings.failureRateThreshold())
+                .minimumNumberOfCalls(settings.minimumNumberOfCalls())
+                .slidingWindowSize(Math.max(settings.minimumNumberOfCalls(), 50))
+                .waitDurationInOpenState(settings.openStateWait())
+                .ignoreExceptions(BulkheadFullException.class) // our own overload, not a question-service failure
+                .build());
+        generateLimiter = timeLimiter(settings.generateTimeout());
+        getQuestionsLimiter = timeLimiter(settings.getQuestionsTimeout());
+        scoreLimiter = timeLimiter(settings.scoreTimeout());
+        answerKeysLimiter = timeLimiter(settings.answerKeysTimeout());
+    }
+
+    @Override
+    public CompletableFuture<List<Integer>> getQuestionsForQuiz(String category, Integer numQ) {
+        return guarded(() -> attempt(generateLimiter, () -> delegate.getQuestionsForQuiz(category, numQ)));
+    }
+
+    @Override
+    public CompletableFuture<List<QuestionWrapper>> getQuestionsFromId(List<Integer> questionIds) {
+        return guarded(() -> hedged(() -> attempt(getQuestionsLimiter, () -> delegate.getQuestionsFromId(questionIds))));
+    }
+
+    @Override
+    public CompletableFuture<Integer> getScore(List<Response> responses) {
+        return guarded(() -> attempt(scoreLimiter, () -> delegate.getScore(responses)));
+    }
+
+    @Override
+    public CompletableFuture<AnswerKeySnapshot> getAnswerKeys(List<Integer> questionIds, String knownVersion) {
+        return guarded(() -> attempt(answerKeysLimiter, () -> delegate.getAnswerKeys(questionIds, knownVersion)));
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public long hedgeCount() {
+        return hedges.sum();
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // the circuit breaker sees the outcome of the whole (possibly hedged) call
+    private <T> CompletableFuture<T> guarded(Supplier<CompletableFuture<T>> call) {
+        return CircuitBreaker.decorateCompletionStage(circuitBreaker, call::get).get().toCompletableFuture();
+    }
+
+    // one request: holds a bulkhead permit until it completes, cancelled after the endpoint timeout.
+    // Cancelling the returned future cancels the request too, which gives the permit back.
+    private <T> CompletableFuture<T> attempt(TimeLimiter limiter, Supplier<CompletableFuture<T>> request) {
+        AtomicReference<CompletableFuture<T>> sent = new AtomicReference<>();
+        CompletableFuture<T> result = Bulkhead.decorateCompletionStage(bulkhead,
+                () -> limiter.executeCompletionStage(scheduler, () -> {
+                    sent.set(request.get());
+                    return sent.get();
+                })).get().toCompletableFuture();
+        result.whenComplete((value, failure) -> {
+            CompletableFuture<T> call = sent.get();
+            if (result.isCancelled() && call != null) call.cancel(true);
+        });
+        return result;
+    }
+
+    private <T> CompletableFuture<T> hedged(Supplier<CompletableFuture<T>> attempt) {
+        if (settings.hedgeDelay() == null || settings.hedgeDelay().isZero()) return attempt.get();
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        // first success wins and the other attempt is cancelled; the call fails only when every attempt sent has failed
+        BiConsumer<T, Throwable> onDone = (value, failure) -> {
+            if (failure == null) {
+                if (result.complete(value)) attempts.forEach(loser -> loser.cancel(true)); // a no-op on the winner
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(failure);
+            }
+        };
+
+        CompletableFuture<T> first = attempt.get();
+        attempts.add(first);
+        first.whenComplete(onDone);
+        scheduler.schedule(() -> {
+            if (result.isDone() || bulkhead.getMetrics().getAvailableConcurrentCalls() == 0) return;
+            pending.incrementAndGet();
+            hedges.increment();
+            CompletableFuture<T> second = attempt.get();
+            attempts.add(second);
+            second.whenComplete(onDone);
+            if (result.isDone()) second.cancel(true); // the first won while this one was being sent
+        }, settings.hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+
+        return result;
+    }
+
+    private static TimeLimiter timeLimiter(Duration timeout) {
+        return TimeLimiter.of(TimeLimiterConfig.custom().timeoutDuration(timeout).cancelRunningFuture(true).build());
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.quizservice.client;
+
+import com.example.quizservice.model.AnswerKeySnapshot;
+import com.example.quizservice.model.QuestionWrapper;
+import com.example.quizservice.model.Response;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// Non-blocking: requests go out on the Reactor Netty event loop over pooled keep-alive connections,
+// so a waiting call holds a connection slot, not a thread.
+@Component
+@Qualifier("questionTransport")
+@ConditionalOnProperty(name = "quiz.question-client.mode", havingValue = "webclient", matchIfMissing = true)
+public class WebClientQuestionClient implements QuestionClient {
+
+    private static final ParameterizedTypeReference<List<Integer>> ID_LIST = new ParameterizedTypeReference<>() {
+    };
+    private static final ParameterizedTypeReference<List<QuestionWrapper>> QUESTION_LIST = new ParameterizedTypeReference<>() {
+    };
+
+    @Autowired
+    @Qualifier("questionWebClient")
+    WebClient webClient;
+
+    @Override
+    public CompletableFuture<List<Integer>> getQuestionsForQuiz(String category, Integer numQ) {
+        return webClient.get()
+                .uri(uri -> uri.path("/question/generate").queryParam("category", category).queryParam("numQ", numQ).build())
+                .retrieve()
+                .bodyToMono(ID_LIST)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<List<QuestionWrapper>> getQuestionsFromId(List<Integer> questionIds) {
+        return webClient.post()
+                .uri("/question/getQuestions")
+                .bodyValue(questionIds)
+                .retrieve()
+                .bodyToMono(QUESTION_LIST)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Integer> getScore(List<Response> responses) {
+        return webClient.post()
+                .uri("/question/getScore")
+                .bodyValue(responses)
+                .retrieve()
+                .bodyToMono(Integer.class)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<AnswerKeySnapshot> getAnswerKeys(List<Integer> questionIds, String knownVersion) {
+        return webClient.post()
+                .uri("/question/answerKeys")
+                .headers(headers -> {
+                    if (knownVersion != null) headers.setIfNoneMatch("\"" + knownVersion + "\"");
+                })
+                .bodyValue(questionIds)
+                .retrieve()
+                .bodyToMono(AnswerKeySnapshot.class) // a 304 has no body: completes with null
+                .toFuture();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.quizservice.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+// WebClient for QUESTION-SERVICE, resolved through Eureka, with a bounded pool of keep-alive connections.
+// Calls beyond max-connections wait in the pool's queue (up to pending-acquire-max) instead of on threads.
+@Configuration
+@ConditionalOnProperty(name = "quiz.question-client.mode", havingValue = "webclient", matchIfMissing = true)
+public class QuestionClientConfig {
+
+    @Value("${quiz.question-client.max-connections:500}")
+    private int maxConnections;
+    @Value("${quiz.question-client.pending-acquire-max:10000}")
+    private int pendingAcquireMax;
+    @Value("${quiz.question-client.pending-acquire-timeout:5s}")
+    private Duration pendingAcquireTimeout;
+    @Value("${quiz.question-client.max-idle-time:30s}")
+    private Duration maxIdleTime;
+    @Value("${quiz.question-client.connect-timeout:2s}")
+    private Duration connectTimeout;
+    @Value("${quiz.question-client.response-timeout:5s}")
+    private Duration responseTimeout;
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder() {
+        return WebClient.builder();
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider questionConnectionProvider() {
+        return ConnectionProvider.builder("question-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMax)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .evictInBackground(maxIdleTime)
+                .build();
+    }
+
+    @Bean
+    public WebClient questionWebClient(WebClient.Builder loadBalancedWebClientBuilder, ConnectionProvider questionConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(questionConnectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+        return loadBalancedWebClientBuilder
+                .baseUrl("http://QUESTION-SERVICE")
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
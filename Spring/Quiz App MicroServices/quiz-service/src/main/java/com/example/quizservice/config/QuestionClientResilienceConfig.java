@@ -0,0 +1,34 @@
+package com.example.quizservice.config;
+
+import com.example.quizservice.client.QuestionClient;
+import com.example.quizservice.client.ResilientQuestionClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+// QuizService gets the resilient client; the webclient/feign transport is only injected here
+@Configuration
+public class QuestionClientResilienceConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @Primary
+    public ResilientQuestionClient resilientQuestionClient(
+            @Qualifier("questionTransport") QuestionClient transport,
+            @Value("${quiz.question-client.max-concurrent-calls:200}") int maxConcurrentCalls,
+            @Value("${quiz.question-client.timeout.generate:2s}") Duration generateTimeout,
+            @Value("${quiz.question-client.timeout.get-questions:1s}") Duration getQuestionsTimeout,
+            @Value("${quiz.question-client.timeout.score:2s}") Duration scoreTimeout,
+            @Value("${quiz.question-client.timeout.answer-keys:2s}") Duration answerKeysTimeout,
+            @Value("${quiz.question-client.hedge-delay:0ms}") Duration hedgeDelay,
+            @Value("${quiz.question-client.circuit.failure-rate:50}") float failureRate,
+            @Value("${quiz.question-client.circuit.minimum-calls:20}") int minimumCalls,
+            @Value("${quiz.question-client.circuit.open-wait:10s}") Duration openWait) {
+        return new ResilientQuestionClient(transport, new ResilientQuestionClient.Settings(maxConcurrentCalls,
+                generateTimeout, getQuestionsTimeout, scoreTimeout, answerKeysTimeout, hedgeDelay,
+                failureRate, minimumCalls, openWait));
+    }
+}
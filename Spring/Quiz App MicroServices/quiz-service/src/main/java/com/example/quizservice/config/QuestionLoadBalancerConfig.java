@@ -0,0 +1,11 @@
+package com.example.quizservice.config;
+
+import com.example.quizservice.client.LatencyAwareLoadBalancerConfiguration;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClient;
+import org.springframework.context.annotation.Configuration;
+
+// Calls to QUESTION-SERVICE, from the WebClient and from Feign, pick instances with the latency-aware balancer
+@Configuration
+@LoadBalancerClient(name = "QUESTION-SERVICE", configuration = LatencyAwareLoadBalancerConfiguration.class)
+public class QuestionLoadBalancerConfig {
+}
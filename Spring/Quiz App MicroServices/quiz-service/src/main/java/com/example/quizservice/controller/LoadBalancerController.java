@@ -0,0 +1,25 @@
+package com.example.quizservice.controller;
+
+import com.example.quizservice.client.InstanceStatsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("loadbalancer")
+public class LoadBalancerController {
+
+    @Autowired
+    InstanceStatsRegistry instanceStats;
+
+    // in-flight calls, peak-EWMA and latency histogram per question-service instance
+    @GetMapping("stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return new ResponseEntity<>(instanceStats.snapshot(), HttpStatus.OK);
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.quizservice.controller;
 
 
-import com.example.quizservice.model.QuestionWrapper;
 import com.example.quizservice.model.Response;
 import com.example.quizservice.service.QuizService;
 import com.example.quizservice.model.QuizDto;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 @RestController
 @RequestMapping("quiz")
@@ -23,15 +28,26 @@ public class QuizController {
         return quizService.createQuiz(quizDto.getCategory(), quizDto.getNumQ(), quizDto.getTitle());
     }
 
+    // get and submit complete asynchronously, the request thread is released while question-service is called
     @GetMapping("get/{id}")
-    public ResponseEntity<List<QuestionWrapper>> getQuiz(@PathVariable Integer id) {
+    public CompletableFuture<ResponseEntity<byte[]>> getQuiz(@PathVariable Integer id) {
         return quizService.getQuizQuestions(id);
     }
 
     @PostMapping("submit/{id}")
-    public ResponseEntity<Integer> submitQuiz(@PathVariable Integer id, @RequestBody List<Response> responses) {
+    public CompletableFuture<ResponseEntity<Integer>> submitQuiz(@PathVariable Integer id, @RequestBody List<Response> responses) {
         return quizService.getScore(id, responses);
     }
 
-
+    // question-service too slow, overloaded or failing: answer quickly instead of tying up the request
+    @ExceptionHandler({TimeoutException.class, CallNotPermittedException.class, BulkheadFullException.class, CompletionException.class})
+    public ResponseEntity<String> questionServiceFailed(Exception e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        System.out.println("question-service call failed: " + cause);
+        if (cause instanceof TimeoutException)
+            return new ResponseEntity<>("question-service timed out", HttpStatus.GATEWAY_TIMEOUT);
+        if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException)
+            return new ResponseEntity<>("question-service unavailable, try again later", HttpStatus.SERVICE_UNAVAILABLE);
+        return new ResponseEntity<>("question-service call failed", HttpStatus.BAD_GATEWAY);
+    }
 }
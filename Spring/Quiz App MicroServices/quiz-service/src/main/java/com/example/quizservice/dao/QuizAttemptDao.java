@@ -0,0 +1,57 @@
+package com.example.quizservice.dao;
+
+import com.example.quizservice.model.QuizAttempt;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// Batched inserts into the quiz_attempt table Hibernate creates for QuizAttempt.
+// Plain JDBC batches: one round trip per batch instead of one persist per attempt.
+@Repository
+public class QuizAttemptDao {
+
+    private static final String INSERT =
+            "INSERT INTO quiz_attempt (id, quiz_id, score, answered, submitted_at) VALUES (?, ?, ?, ?, ?)";
+
+    // the table has to exist before attempts spilled by an earlier run are replayed at startup
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+    @Autowired
+    NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // all or nothing, so a failed batch can be spilled and written again as a whole
+    @Transactional
+    public void insert(List<QuizAttempt> attempts) {
+        jdbcTemplate.batchUpdate(INSERT, attempts, attempts.size(), (ps, attempt) -> {
+            ps.setObject(1, attempt.getId());
+            ps.setInt(2, attempt.getQuizId());
+            ps.setInt(3, attempt.getScore());
+            ps.setInt(4, attempt.getAnswered());
+            ps.setObject(5, attempt.getSubmittedAt().atOffset(ZoneOffset.UTC));
+        });
+    }
+
+    // for replays: skips attempts a previous, interrupted replay already wrote; returns how many were new
+    @Transactional
+    public int insertMissing(List<QuizAttempt> attempts) {
+        Set<UUID> existing = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT id FROM quiz_attempt WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", attempts.stream().map(QuizAttempt::getId).toList()),
+                UUID.class));
+        List<QuizAttempt> missing = attempts.stream().filter(attempt -> !existing.contains(attempt.getId())).toList();
+        if (!missing.isEmpty()) insert(missing);
+        return missing.size();
+    }
+}
@@ -2,6 +2,13 @@ package com.example.quizservice.dao;
 
 import com.example.quizservice.model.Quiz;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
 
 public interface QuizDao extends JpaRepository<Quiz, Integer> {
+
+    // question ids fetched in the same query, usable outside a transaction
+    @Query("SELECT q FROM Quiz q LEFT JOIN FETCH q.questionIds WHERE q.id = :id")
+    Optional<Quiz> findWithQuestionIdsById(Integer id);
 }
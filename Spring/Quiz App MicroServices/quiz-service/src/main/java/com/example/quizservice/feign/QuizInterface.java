@@ -1,12 +1,15 @@
 package com.example.quizservice.feign;
 
+import com.example.quizservice.model.AnswerKeySnapshot;
 import com.example.quizservice.model.QuestionWrapper;
 import com.example.quizservice.model.Response;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
@@ -22,4 +25,8 @@ public interface QuizInterface {
 
     @PostMapping("question/getScore")
     public ResponseEntity<Integer> getScore(@RequestBody List<Response> responseList);
+
+    @PostMapping("question/answerKeys")
+    public ResponseEntity<AnswerKeySnapshot> getAnswerKeys(@RequestBody List<Integer> questionIds,
+                                                           @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 }
@@ -0,0 +1,4 @@
+package com.example.quizservice.model;
+
+public record AnswerKey(Integer id, String rightAnswer) {
+}
@@ -0,0 +1,8 @@
+package com.example.quizservice.model;
+
+import java.util.List;
+
+// as returned by question-service /question/answerKeys; version is a hash of the keys, the same on
+// every question-service instance, and also sent as the response's ETag
+public record AnswerKeySnapshot(String version, List<AnswerKey> answerKeys) {
+}
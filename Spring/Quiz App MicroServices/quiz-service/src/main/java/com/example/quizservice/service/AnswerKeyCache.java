@@ -0,0 +1,69 @@
+package com.example.quizservice.service;
+
+import com.example.quizservice.client.QuestionClient;
+import com.example.quizservice.dao.QuizDao;
+import com.example.quizservice.model.Quiz;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+// Answer keys per quiz id, fetched from question-service on first use. After refresh a request for
+// the quiz revalidates its keys in the background: question-service is sent the snapshot version
+// held here and answers 304 while it is current, so an unchanged quiz costs no payload. A corrected
+// answer is picked up on the first submission after refresh; keys that could not be revalidated
+// (question-service unreachable) are dropped after ttl.
+@Component
+public class AnswerKeyCache {
+
+    @Autowired
+    QuizDao quizDao;
+    @Autowired
+    QuestionClient questionClient;
+
+    private final AsyncLoadingCache<Integer, QuizAnswerKey> answerKeys;
+
+    public AnswerKeyCache(@Value("${quiz.answer-keys.max-quizzes:10000}") long maxQuizzes,
+                          @Value("${quiz.answer-keys.refresh:30s}") Duration refresh,
+                          @Value("${quiz.answer-keys.ttl:10m}") Duration ttl) {
+        answerKeys = Caffeine.newBuilder()
+                .maximumSize(maxQuizzes)
+                .refreshAfterWrite(refresh)
+                .expireAfterWrite(ttl)
+                .buildAsync(new AsyncCacheLoader<>() {
+                    @Override
+                    public CompletableFuture<QuizAnswerKey> asyncLoad(Integer quizId, Executor executor) {
+                        return load(quizId);
+                    }
+
+                    @Override
+                    public CompletableFuture<QuizAnswerKey> asyncReload(Integer quizId, QuizAnswerKey current, Executor executor) {
+                        return revalidate(current);
+                    }
+                });
+    }
+
+    // concurrent misses for the same quiz share one load; null for a quiz that does not exist (not cached)
+    public CompletableFuture<QuizAnswerKey> get(Integer quizId) {
+        return answerKeys.get(quizId);
+    }
+
+    private CompletableFuture<QuizAnswerKey> load(Integer quizId) {
+        Quiz quiz = quizDao.findWithQuestionIdsById(quizId).orElse(null);
+        if (quiz == null) return CompletableFuture.completedFuture(null);
+        return questionClient.getAnswerKeys(quiz.getQuestionIds(), null)
+                .thenApply(snapshot -> new QuizAnswerKey(quiz.getQuestionIds(), snapshot));
+    }
+
+    // a quiz's questions never change, only their answers can
+    private CompletableFuture<QuizAnswerKey> revalidate(QuizAnswerKey current) {
+        return questionClient.getAnswerKeys(current.questionIds(), current.version())
+                .thenApply(snapshot -> snapshot == null ? current : new QuizAnswerKey(current.questionIds(), snapshot));
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.quizservice.service;
+
+import com.example.quizservice.model.AnswerKey;
+import com.example.quizservice.model.AnswerKeySnapshot;
+import com.example.quizservice.model.Response;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// The right answers of one quiz: question ids sorted in an int[] with the answers at the same index,
+// so scoring is a binary search per response and needs no call to question-service.
+public final class QuizAnswerKey {
+
+    private final int[] questionIds;
+    private final String[] rightAnswers;
+    private final String version;
+
+    public QuizAnswerKey(List<Integer> quizQuestionIds, AnswerKeySnapshot snapshot) {
+        Map<Integer, String> byId = new HashMap<>();
+        for (AnswerKey key : snapshot.answerKeys()) byId.put(key.id(), key.rightAnswer());
+
+        questionIds = quizQuestionIds.stream().mapToInt(Integer::intValue).distinct().sorted().toArray();
+        rightAnswers = new String[questionIds.length];
+        for (int i = 0; i < questionIds.length; i++) {
+            rightAnswers[i] = byId.get(questionIds[i]); // null if the question no longer exists, never scores
+        }
+        version = snapshot.version();
+    }
+
+    // throws IllegalArgumentException if a response is for a question outside this quiz or answers one twice
+    public int score(List<Response> responses) {
+        boolean[] answered = new boolean[questionIds.length];
+        int score = 0;
+        for (int i = 0; i < responses.size(); i++) {
+            Response response = responses.get(i);
+            Integer id = response.getId();
+            int index = id == null ? -1 : Arrays.binarySearch(questionIds, id);
+            if (index < 0) throw new IllegalArgumentException("Question " + id + " is not part of this quiz");
+            if (answered[index]) throw new IllegalArgumentException("Question " + id + " is answered more than once");
+            answered[index] = true;
+
+            String rightAnswer = rightAnswers[index];
+            if (rightAnswer != null && rightAnswer.equals(response.getResponse())) score++;
+        }
+        return score;
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+
+    public List<Integer> questionIds() {
+        return Arrays.stream(questionIds).boxed().toList();
+    }
+
+    // the snapshot version these answers came from, to revalidate them with question-service
+    public String version() {
+        return version;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.quizservice.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+// The JSON body of GET /quiz/get/{id}, kept as bytes. A quiz's questions never change after it is
+// created, so entries are never invalidated, only evicted when the cache is over its byte budget.
+@Component
+public class QuizPayloadCache {
+
+    private final AsyncCache<Integer, byte[]> payloads;
+
+    public QuizPayloadCache(@Value("${quiz.payload-cache.max-bytes:67108864}") long maxBytes) {
+        payloads = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Integer id, byte[] json) -> json.length)
+                .buildAsync();
+    }
+
+    // concurrent misses for the same quiz share one load; a null or failed result is not cached
+    public CompletableFuture<byte[]> get(Integer quizId, Function<Integer, CompletableFuture<byte[]>> loader) {
+        return payloads.get(quizId, (id, executor) -> loader.apply(id));
+    }
+}
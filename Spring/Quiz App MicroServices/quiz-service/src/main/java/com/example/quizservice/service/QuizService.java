@@ -1,15 +1,22 @@
 package com.example.quizservice.service;
 
+import com.example.quizservice.client.QuestionClient;
 import com.example.quizservice.dao.QuizDao;
-import com.example.quizservice.feign.QuizInterface;
 import com.example.quizservice.model.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class QuizService {
@@ -17,12 +24,21 @@ public class QuizService {
     @Autowired
     QuizDao quizDao;
     @Autowired
-    QuizInterface quizInterface;
+    QuestionClient questionClient;
+    @Autowired
+    QuizPayloadCache quizPayloadCache;
+    @Autowired
+    AnswerKeyCache answerKeyCache;
+    @Autowired
+    QuizAttemptWriter quizAttemptWriter;
+    @Autowired
+    ObjectMapper objectMapper;
 
 
     public ResponseEntity<String> createQuiz(String category, Integer numQ, String title) {
 //        List<Question> questions = questionDao.findRandomQuestionsByCategory(category, numQ);
-        List<Integer> questions = quizInterface.getQuestionsForQuiz(category, numQ).getBody();
+        // creating a quiz is rare, so it simply waits for question-service
+        List<Integer> questions = questionClient.getQuestionsForQuiz(category, numQ).join();
         Quiz quiz = new Quiz();
         quiz.setTitle(title);
         quiz.setQuestionIds(questions);
@@ -31,15 +47,48 @@ public class QuizService {
         return new ResponseEntity<>("Success", HttpStatus.CREATED);
     }
 
-    public ResponseEntity<List<QuestionWrapper>> getQuizQuestions(Integer id) {
-        Quiz quiz = quizDao.findById(id).orElse(new Quiz());
-        List<Integer> questionList = quiz.getQuestionIds();
-        List<QuestionWrapper> questionsForUser = quizInterface.getQuestionsFromId(questionList).getBody();
-        return new ResponseEntity<>(questionsForUser, HttpStatus.OK);
+    // served from the payload cache; only the first request for a quiz reads the database and question-service
+    public CompletableFuture<ResponseEntity<byte[]>> getQuizQuestions(Integer id) {
+        return quizPayloadCache.get(id, this::loadQuizQuestions).thenApply(json -> json == null
+                ? new ResponseEntity<>(HttpStatus.NOT_FOUND)
+                : ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json));
     }
 
-    public ResponseEntity<Integer> getScore(Integer id, List<Response> responses) {
-        return quizInterface.getScore(responses);
+    private CompletableFuture<byte[]> loadQuizQuestions(Integer id) {
+        Quiz quiz = quizDao.findWithQuestionIdsById(id).orElse(null);
+        if (quiz == null) return CompletableFuture.completedFuture(null);
+        return questionClient.getQuestionsFromId(quiz.getQuestionIds()).thenApply(questionsForUser -> {
+            try {
+                return objectMapper.writeValueAsBytes(questionsForUser);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Could not serialize quiz " + id, e);
+            }
+        });
     }
-}
 
+    // scored here against the quiz's cached answer keys, question-service is only asked once per quiz
+    public CompletableFuture<ResponseEntity<Integer>> getScore(Integer id, List<Response> responses) {
+        return answerKeyCache.get(id).thenApply(answerKey -> {
+            if (answerKey == null) return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+            int score;
+            try {
+                score = answerKey.score(responses);
+            } catch (IllegalArgumentException e) {
+                System.out.println("Rejected submission for quiz " + id + ": " + e.getMessage());
+                return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+            }
+
+            // recorded write-behind; when the writer is this far behind, the client is asked to retry
+            QuizAttempt attempt = new QuizAttempt();
+            attempt.setId(UUID.randomUUID());
+            attempt.setQuizId(id);
+            attempt.setScore(score);
+            attempt.setAnswered(responses.size());
+            attempt.setSubmittedAt(Instant.now());
+            if (!quizAttemptWriter.offer(attempt))
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+
+            return ResponseEntity.ok(score);
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.quizservice.client;
+
+import com.example.quizservice.model.AnswerKey;
+import com.example.quizservice.model.AnswerKeySnapshot;
+import com.example.quizservice.model.QuestionWrapper;
+import com.example.quizservice.model.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+// In-process stand-in for QUESTION-SERVICE. Answers after a latency chosen per call (call number -> delay),
+// from a timer thread, so thousands of slow calls cost no threads; failNext() makes calls fail instead.
+public class FakeQuestionClient implements QuestionClient {
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile IntFunction<Duration> latency;
+    private volatile boolean failing;
+
+    public FakeQuestionClient(Duration latency) {
+        this(call -> latency);
+    }
+
+    public FakeQuestionClient(IntFunction<Duration> latency) {
+        this.latency = latency;
+    }
+
+    public void setLatency(IntFunction<Duration> latency) {
+        this.latency = latency;
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    public int calls() {
+        return calls.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    @Override
+    public CompletableFuture<List<Integer>> getQuestionsForQuiz(String category, Integer numQ) {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 1; i <= numQ; i++) ids.add(i);
+        return answer(ids);
+    }
+
+    @Override
+    public CompletableFuture<List<QuestionWrapper>> getQuestionsFromId(List<Integer> questionIds) {
+        List<QuestionWrapper> questions = new ArrayList<>();
+        for (Integer id : questionIds) questions.add(new QuestionWrapper(id, "Question " + id, "a", "b", "c", "d"));
+        return answer(questions);
+    }
+
+    @Override
+    public CompletableFuture<Integer> getScore(List<Response> responses) {
+        return answer((int) responses.stream().filter(r -> "a".equals(r.getResponse())).count());
+    }
+
+    @Override
+    public CompletableFuture<AnswerKeySnapshot> getAnswerKeys(List<Integer> questionIds, String knownVersion) {
+        return answer(new AnswerKeySnapshot("1", questionIds.stream().map(id -> new AnswerKey(id, "a")).toList()));
+    }
+
+    private <T> CompletableFuture<T> answer(T value) {
+        int call = calls.getAndIncrement();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.whenComplete((v, e) -> inFlight.decrementAndGet());
+        boolean fail = failing;
+        timer.schedule(() -> {
+            if (fail) future.completeExceptionally(new IllegalStateException("question-service failed"));
+            else future.complete(value);
+        }, latency.apply(call).toNanos(), TimeUnit.NANOSECONDS);
+        return future;
+    }
+}
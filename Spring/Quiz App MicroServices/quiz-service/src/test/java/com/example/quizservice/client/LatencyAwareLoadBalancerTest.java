@@ -0,0 +1,136 @@
+package com.example.quizservice.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Simulates 30 closed-loop callers against two fast question-service instances (~10 ms) and a slow
+// one (~150 ms) on a virtual clock, driving the balancer and the lifecycle the way Spring Cloud does
+class LatencyAwareLoadBalancerTest {
+
+    private static final String SERVICE = "QUESTION-SERVICE";
+    private static final long MS = 1_000_000L;
+    private static final int CLIENTS = 30;
+    private static final int CALLS = 20_000;
+
+    private static final ServiceInstance FAST_1 = instance("fast-1");
+    private static final ServiceInstance FAST_2 = instance("fast-2");
+    private static final ServiceInstance SLOW = instance("slow");
+
+    private final AtomicLong clock = new AtomicLong(1_000 * MS);
+
+    @Test
+    void testLatencyAwareStrategiesAvoidTheSlowInstance() {
+        Result roundRobin = simulate(null);
+        Result leastOutstanding = simulate(LatencyAwareLoadBalancer.Strategy.LEAST_OUTSTANDING);
+        Result peakEwma = simulate(LatencyAwareLoadBalancer.Strategy.PEAK_EWMA);
+
+        assertEquals(1 / 3.0, roundRobin.slowShare(), 0.02);
+        assertTrue(leastOutstanding.slowShare() < 0.15, "least-outstanding slow share " + leastOutstanding.slowShare());
+        assertTrue(peakEwma.slowShare() < 0.10, "peak-ewma slow share " + peakEwma.slowShare());
+        assertTrue(leastOutstanding.meanMillis() < roundRobin.meanMillis() * 0.6);
+        assertTrue(peakEwma.meanMillis() < roundRobin.meanMillis() * 0.6);
+    }
+
+    @Test
+    void testHistogramPerInstance() {
+        InstanceStatsRegistry stats = simulate(LatencyAwareLoadBalancer.Strategy.PEAK_EWMA).stats();
+
+        assertTrue(stats.get(FAST_1).percentileMillis(99) <= 20);
+        assertTrue(stats.get(FAST_2).percentileMillis(99) <= 20);
+        assertEquals(200, stats.get(SLOW).percentileMillis(50));
+        assertEquals(0, stats.get(SLOW).outstanding());
+        assertEquals((long) CALLS + CLIENTS, stats.get(FAST_1).count() + stats.get(FAST_2).count() + stats.get(SLOW).count());
+    }
+
+    @Test
+    void testCancelledCallsAreSweptFromTheInFlightCount() {
+        InstanceStatsRegistry stats = newStats();
+        Request<Object> cancelled = new DefaultRequest<>(new RequestDataContext());
+        stats.onStartRequest(cancelled, new DefaultResponse(SLOW));
+        assertEquals(1, stats.get(SLOW).outstanding());
+
+        // no onComplete ever comes; the next call after the in-flight timeout clears it
+        clock.addAndGet(31_000 * MS);
+        stats.onStartRequest(new DefaultRequest<>(new RequestDataContext()), new DefaultResponse(FAST_1));
+        assertEquals(0, stats.get(SLOW).outstanding());
+        assertEquals(1, stats.get(FAST_1).outstanding());
+
+        // a late onComplete for the swept call changes nothing
+        stats.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, cancelled, new DefaultResponse(SLOW)));
+        assertEquals(0, stats.get(SLOW).outstanding());
+    }
+
+    private InstanceStatsRegistry newStats() {
+        return new InstanceStatsRegistry(Duration.ofSeconds(10), Duration.ofSeconds(30), clock::get);
+    }
+
+    // strategy null is Spring Cloud's round-robin; every run starts with no stats
+    private Result simulate(LatencyAwareLoadBalancer.Strategy strategy) {
+        InstanceStatsRegistry stats = newStats();
+        var instances = ServiceInstanceListSuppliers.toProvider(SERVICE, FAST_1, FAST_2, SLOW);
+        ReactorServiceInstanceLoadBalancer balancer = strategy == null
+                ? new RoundRobinLoadBalancer(instances, SERVICE)
+                : new LatencyAwareLoadBalancer(instances, SERVICE, strategy, stats);
+
+        Random random = new Random(42);
+        PriorityQueue<Call> running = new PriorityQueue<>(Comparator.comparingLong(Call::endsAt));
+        for (int i = 0; i < CLIENTS; i++) running.add(send(balancer, stats, random));
+
+        long slowCalls = 0;
+        long totalNanos = 0;
+        for (int done = 0; done < CALLS; done++) {
+            Call call = running.poll();
+            clock.set(call.endsAt());
+            stats.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, call.request(), call.response()));
+            if (call.response().getServer() == SLOW) slowCalls++;
+            totalNanos += call.endsAt() - call.startedAt();
+
+            // closed loop: the caller sends its next call right away
+            running.add(send(balancer, stats, random));
+        }
+        // let the calls still running finish so the in-flight counts end at 0
+        for (Call call : running) {
+            clock.set(Math.max(clock.get(), call.endsAt()));
+            stats.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, call.request(), call.response()));
+        }
+        return new Result((double) slowCalls / CALLS, totalNanos / (double) CALLS / MS, stats);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Call send(ReactorServiceInstanceLoadBalancer balancer, InstanceStatsRegistry stats, Random random) {
+        Request<Object> request = new DefaultRequest<>(new RequestDataContext());
+        Response<ServiceInstance> response = (Response<ServiceInstance>) balancer.choose(request).block();
+        stats.onStartRequest(request, response);
+
+        long latency = response.getServer() == SLOW ? 140 * MS + random.nextInt(20) * MS : 8 * MS + random.nextInt(5) * MS;
+        return new Call(request, response, clock.get(), clock.get() + latency);
+    }
+
+    private static ServiceInstance instance(String id) {
+        return new DefaultServiceInstance(id, SERVICE, id, 8080, false);
+    }
+
+    private record Call(Request<Object> request, Response<ServiceInstance> response, long startedAt, long endsAt) {
+    }
+
+    private record Result(double slowShare, double meanMillis, InstanceStatsRegistry stats) {
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.quizservice.client;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientQuestionClientTest {
+
+    private FakeQuestionClient fake;
+    private ResilientQuestionClient client;
+
+    @AfterEach
+    void tearDown() {
+        client.shutdown();
+        fake.shutdown();
+    }
+
+    @Test
+    void testSlowCallTimesOut() {
+        start(new FakeQuestionClient(Duration.ofSeconds(2)), settings(10, Duration.ZERO));
+
+        long start = System.nanoTime();
+        CompletionException e = assertThrows(CompletionException.class, () -> client.getQuestionsFromId(List.of(1)).join());
+
+        assertInstanceOf(TimeoutException.class, e.getCause());
+        assertTrue(System.nanoTime() - start < Duration.ofSeconds(1).toNanos());
+    }
+
+    @Test
+    void testBulkheadRejectsBeyondLimit() {
+        start(new FakeQuestionClient(Duration.ofMillis(150)), settings(2, Duration.ZERO));
+
+        CompletableFuture<?> first = client.getAnswerKeys(List.of(1), null);
+        CompletableFuture<?> second = client.getAnswerKeys(List.of(2), null);
+        CompletableFuture<?> third = client.getAnswerKeys(List.of(3), null);
+
+        CompletionException e = assertThrows(CompletionException.class, third::join);
+        assertInstanceOf(BulkheadFullException.class, e.getCause());
+        first.join();
+        second.join();
+        assertEquals(2, fake.maxInFlight());
+        client.getAnswerKeys(List.of(4), null).join(); // permits are back once calls complete
+    }
+
+    @Test
+    void testCircuitOpensAfterFailures() {
+        start(new FakeQuestionClient(Duration.ofMillis(1)), settings(10, Duration.ZERO));
+        fake.setFailing(true);
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(CompletionException.class, () -> client.getScore(List.of()).join());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, client.circuitState());
+
+        int calls = fake.calls();
+        CompletionException e = assertThrows(CompletionException.class, () -> client.getScore(List.of()).join());
+        assertInstanceOf(CallNotPermittedException.class, e.getCause());
+        assertEquals(calls, fake.calls()); // rejected without calling question-service
+    }
+
+    @Test
+    void testHedgingCutsTailLatency() {
+        // every 10th request is stuck for 800ms, the rest take 5ms
+        FakeQuestionClient slowTail = new FakeQuestionClient(call -> Duration.ofMillis(call % 10 == 0 ? 800 : 5));
+        start(slowTail, settings(50, Duration.ofMillis(40)));
+
+        long[] latencies = new long[50];
+        for (int i = 0; i < latencies.length; i++) {
+            long start = System.nanoTime();
+            assertEquals(2, client.getQuestionsFromId(List.of(1, 2)).join().size());
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+
+        assertTrue(latencies[latencies.length - 1] < Duration.ofMillis(400).toNanos(),
+                "max latency " + latencies[latencies.length - 1] / 1e6 + " ms");
+        assertTrue(client.hedgeCount() >= 5);
+    }
+
+    @Test
+    void testHedgedCallFailsOnlyWhenAllAttemptsFail() {
+        start(new FakeQuestionClient(Duration.ofMillis(60)), settings(10, Duration.ofMillis(10)));
+        fake.setFailing(true);
+
+        assertThrows(CompletionException.class, () -> client.getQuestionsFromId(List.of(1)).join());
+        assertEquals(2, fake.calls());
+    }
+
+    @Test
+    void testHedgeLoserIsCancelled() throws InterruptedException {
+        // the first request would take 250ms, just under the timeout; the hedge answers in 5ms
+        start(new FakeQuestionClient(call -> Duration.ofMillis(call == 0 ? 250 : 5)), settings(10, Duration.ofMillis(20)));
+
+        client.getQuestionsFromId(List.of(1)).join();
+
+        long deadline = System.nanoTime() + Duration.ofMillis(100).toNanos();
+        while (fake.inFlight() > 0 && System.nanoTime() < deadline) Thread.sleep(1);
+        assertEquals(0, fake.inFlight());
+        assertEquals(2, fake.calls());
+    }
+
+    private void start(FakeQuestionClient fake, ResilientQuestionClient.Settings settings) {
+        this.fake = fake;
+        this.client = new ResilientQuestionClient(fake, settings);
+    }
+
+    private static ResilientQuestionClient.Settings settings(int maxConcurrentCalls, Duration hedgeDelay) {
+        Duration timeout = Duration.ofMillis(300);
+        return new ResilientQuestionClient.Settings(maxConcurrentCalls, timeout, timeout, timeout, timeout,
+                hedgeDelay, 50, 5, Duration.ofSeconds(30));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.quizservice.client;
+
+import com.example.quizservice.model.AnswerKeySnapshot;
+import com.example.quizservice.model.QuestionWrapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Talks to a local stand-in for question-service (no Eureka), checking paths and JSON mapping
+class WebClientQuestionClientTest {
+
+    private HttpServer server;
+    private final Map<String, String> requests = new ConcurrentHashMap<>();
+    private final WebClientQuestionClient client = new WebClientQuestionClient();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        respond("/question/generate", "[3,1,2]");
+        respond("/question/getQuestions", "[{\"id\":1,\"questionTitle\":\"Q1\",\"option1\":\"a\",\"option2\":\"b\",\"option3\":\"c\",\"option4\":\"d\"},null]");
+        respond("/question/answerKeys", "{\"version\":\"v5\",\"answerKeys\":[{\"id\":1,\"rightAnswer\":\"a\"}]}");
+        server.start();
+        client.webClient = WebClient.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testGetQuestionsForQuiz() {
+        assertEquals(List.of(3, 1, 2), client.getQuestionsForQuiz("java", 3).join());
+        assertEquals("category=java&numQ=3", requests.get("/question/generate"));
+    }
+
+    @Test
+    void testGetQuestionsFromId() {
+        List<QuestionWrapper> questions = client.getQuestionsFromId(List.of(1, 2)).join();
+
+        assertEquals("Q1", questions.get(0).getQuestionTitle());
+        assertNull(questions.get(1));
+        assertEquals("[1,2]", requests.get("/question/getQuestions"));
+    }
+
+    @Test
+    void testGetAnswerKeys() {
+        AnswerKeySnapshot snapshot = client.getAnswerKeys(List.of(1), null).join();
+
+        assertEquals("v5", snapshot.version());
+        assertEquals("a", snapshot.answerKeys().get(0).rightAnswer());
+    }
+
+    @Test
+    void testUnchangedAnswerKeysCompleteWithNull() {
+        assertNull(client.getAnswerKeys(List.of(1), "v5").join());
+        assertEquals("\"v5\"", requests.get("If-None-Match"));
+    }
+
+    // a request whose If-None-Match is the version in json is answered 304, like question-service does
+    private void respond(String path, String json) {
+        server.createContext(path, exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            requests.put(path, body.isEmpty() ? String.valueOf(exchange.getRequestURI().getQuery()) : body);
+            String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+            if (ifNoneMatch != null) {
+                requests.put("If-None-Match", ifNoneMatch);
+                if (json.contains("\"version\":" + ifNoneMatch)) {
+                    exchange.sendResponseHeaders(304, -1);
+                    exchange.close();
+                    return;
+                }
+            }
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.quizservice.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+
+// Throughput and p99 latency of one endpoint at 1k, 5k and 20k concurrent clients. Each client sends its
+// next request as soon as the previous response arrives (closed loop), without a thread per client.
+// Run it once against the service started normally and once with -Pvirtual-threads, same data.
+// args: [url] [json body, sends a POST when given] [seconds per level]
+// 20k clients need 20k sockets: raise ulimit -n on both machines first.
+public class ConcurrentClientsBenchmark {
+
+    private static final int[] CLIENTS = {1_000, 5_000, 20_000};
+    private static final int CLIENTS_PER_HTTP_CLIENT = 1_000;
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8090/quiz/get/1";
+        String body = args.length > 1 && !args[1].isEmpty() ? args[1] : null;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30));
+        HttpRequest request = body == null
+                ? builder.GET().build()
+                : builder.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(body)).build();
+
+        System.out.printf("%8s %12s %10s %10s %10s %8s%n", "clients", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (int clients : CLIENTS) {
+            run(request, clients, seconds);
+        }
+        System.exit(0);
+    }
+
+    private static void run(HttpRequest request, int clients, int seconds) {
+        HttpClient[] httpClients = new HttpClient[(clients + CLIENTS_PER_HTTP_CLIENT - 1) / CLIENTS_PER_HTTP_CLIENT];
+        for (int i = 0; i < httpClients.length; i++) {
+            httpClients[i] = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(10)).build();
+        }
+
+        // the first fifth of the run is warm-up and not counted
+        long now = System.nanoTime();
+        long measureFrom = now + Duration.ofSeconds(seconds).toNanos() / 5;
+        long end = now + Duration.ofSeconds(seconds).toNanos();
+        LongAdder errors = new LongAdder();
+
+        Client[] running = new Client[clients];
+        for (int i = 0; i < clients; i++) {
+            running[i] = new Client(httpClients[i / CLIENTS_PER_HTTP_CLIENT], request, measureFrom, end, errors);
+            running[i].next();
+        }
+        CompletableFuture.allOf(Arrays.stream(running).map(c -> c.done).toArray(CompletableFuture[]::new)).join();
+
+        int total = 0;
+        for (Client client : running) total += client.count;
+        long[] latencies = new long[total];
+        int offset = 0;
+        for (Client client : running) {
+            System.arraycopy(client.latencies, 0, latencies, offset, client.count);
+            offset += client.count;
+        }
+        Arrays.sort(latencies);
+
+        double measuredSeconds = (end - measureFrom) / 1e9;
+        System.out.printf("%8d %12.1f %10.2f %10.2f %10.2f %8d%n", clients, total / measuredSeconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99),
+                total == 0 ? 0 : latencies[total - 1] / 1e6, errors.sum());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        return sorted[(int) Math.ceil(p * sorted.length) - 1] / 1e6;
+    }
+
+    // one simulated user; its requests never overlap, so the latency buffer needs no locking
+    private static final class Client {
+
+        private final HttpClient httpClient;
+        private final HttpRequest request;
+        private final long measureFrom;
+        private final long end;
+        private final LongAdder errors;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private long[] latencies = new long[256];
+        private int count;
+
+        Client(HttpClient httpClient, HttpRequest request, long measureFrom, long end, LongAdder errors) {
+            this.httpClient = httpClient;
+            this.request = request;
+            this.measureFrom = measureFrom;
+            this.end = end;
+            this.errors = errors;
+        }
+
+        void next() {
+            long start = System.nanoTime();
+            if (start >= end) {
+                done.complete(null);
+                return;
+            }
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                long elapsed = System.nanoTime() - start;
+                if (failure != null || response.statusCode() >= 400) errors.increment();
+                else if (start >= measureFrom) record(elapsed);
+                next();
+            });
+        }
+
+        private void record(long nanos) {
+            if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+            latencies[count++] = nanos;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.quizservice.service;
+
+import com.example.quizservice.model.AnswerKey;
+import com.example.quizservice.model.AnswerKeySnapshot;
+import com.example.quizservice.model.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuizAnswerKeyTest {
+
+    private final QuizAnswerKey answerKey = new QuizAnswerKey(List.of(9, 2, 5),
+            new AnswerKeySnapshot("v7", List.of(new AnswerKey(2, "a"), new AnswerKey(5, "b"), new AnswerKey(9, "c"))));
+
+    @Test
+    void testScore() {
+        assertEquals(2, answerKey.score(List.of(response(5, "b"), response(9, "x"), response(2, "a"))));
+        assertEquals(0, answerKey.score(List.of()));
+        assertEquals("v7", answerKey.version());
+    }
+
+    @Test
+    void testRejectsQuestionsOutsideTheQuiz() {
+        assertThrows(IllegalArgumentException.class, () -> answerKey.score(List.of(response(3, "a"))));
+        assertThrows(IllegalArgumentException.class, () -> answerKey.score(List.of(response(null, "a"))));
+    }
+
+    @Test
+    void testRejectsDuplicateAnswers() {
+        assertThrows(IllegalArgumentException.class, () -> answerKey.score(List.of(response(2, "a"), response(2, "a"))));
+    }
+
+    @Test
+    void testQuestionWithoutKeyNeverScores() {
+        QuizAnswerKey partial = new QuizAnswerKey(List.of(1, 2), new AnswerKeySnapshot("v1", List.of(new AnswerKey(1, "a"))));
+
+        assertEquals(1, partial.score(List.of(response(1, "a"), response(2, "a"))));
+    }
+
+    private static Response response(Integer id, String answer) {
+        Response response = new Response();
+        response.setId(id);
+        response.setResponse(answer);
+        return response;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.quizservice.service;
+
+import com.example.quizservice.dao.QuizAttemptDao;
+import com.example.quizservice.model.QuizAttempt;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class QuizAttemptWriterTest {
+
+    @TempDir
+    Path dir;
+
+    private final QuizAttemptDao dao = mock(QuizAttemptDao.class);
+    private final List<List<QuizAttempt>> batches = Collections.synchronizedList(new ArrayList<>());
+    private final List<QuizAttemptWriter> writers = new ArrayList<>();
+
+    @AfterEach
+    void stopWriters() throws InterruptedException {
+        for (QuizAttemptWriter writer : writers) writer.stop();
+    }
+
+    @Test
+    void testBatchesBySizeOrAfterFlushInterval() throws InterruptedException {
+        recordBatches(dao);
+        QuizAttemptWriter writer = start(dao, 100, 3, Duration.ofMillis(100));
+
+        for (int i = 0; i < 7; i++) assertTrue(writer.offer(attempt()));
+
+        await(() -> written() == 7);
+        assertEquals(List.of(3, 3, 1), batches.stream().map(List::size).toList());
+    }
+
+    @Test
+    void testFullQueueIsRefused() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            batches.add(new ArrayList<>(invocation.getArgument(0)));
+            return null;
+        }).when(dao).insert(anyList());
+        QuizAttemptWriter writer = start(dao, 2, 1, Duration.ofMillis(10));
+
+        assertTrue(writer.offer(attempt()));
+        await(() -> writer.queued() == 0); // taken by the writer, which is now stuck on the database
+        assertTrue(writer.offer(attempt()));
+        assertTrue(writer.offer(attempt()));
+        assertFalse(writer.offer(attempt()));
+        assertEquals(1, writer.rejected());
+
+        release.countDown();
+        await(() -> written() == 3);
+    }
+
+    @Test
+    void testFailedBatchIsSpilledAndReplayedWhenTheDatabaseIsBack() throws InterruptedException {
+        doThrow(new DataAccessResourceFailureException("connection refused")).doNothing().when(dao).insert(anyList());
+        when(dao.insertMissing(anyList())).thenAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.getArgument(0)));
+            return batches.get(batches.size() - 1).size();
+        });
+        QuizAttemptWriter writer = start(dao, 100, 10, Duration.ofMillis(10));
+        QuizAttempt attempt = attempt();
+
+        writer.offer(attempt);
+        await(() -> written() == 1);
+
+        assertEquals(attempt, batches.get(0).get(0));
+        assertFalse(Files.exists(dir.resolve("attempts.spill")));
+    }
+
+    @Test
+    void testAttemptsQueuedAtShutdownAreReplayedAtStartup() throws Exception {
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(dao).insert(anyList());
+        QuizAttemptWriter writer = start(dao, 100, 10, Duration.ofMillis(200));
+        List<QuizAttempt> attempts = List.of(attempt(), attempt());
+        attempts.forEach(writer::offer);
+        writers.remove(writer);
+        writer.stop();
+        assertFalse(writer.offer(attempt()));
+        assertEquals(2, Files.readAllLines(dir.resolve("attempts.spill")).size());
+
+        QuizAttemptDao restarted = mock(QuizAttemptDao.class);
+        when(restarted.insertMissing(anyList())).thenAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.getArgument(0)));
+            return 2;
+        });
+        start(restarted, 100, 10, Duration.ofSeconds(5));
+
+        assertEquals(List.of(attempts), batches);
+        assertFalse(Files.exists(dir.resolve("attempts.spill")));
+    }
+
+    @Test
+    void testShutdownWaitsForABatchStuckOnTheDatabase() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            throw new DataAccessResourceFailureException("read timed out");
+        }).when(dao).insert(anyList());
+        QuizAttemptWriter writer = start(dao, 100, 1, Duration.ofMillis(10));
+        writers.remove(writer);
+        writer.offer(attempt());
+        await(() -> writer.queued() == 0);
+
+        Thread stopping = new Thread(() -> {
+            try {
+                writer.stop();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stopping.start();
+        // admission closes right away while the writer is still stuck; whatever got in before must not be lost
+        int[] accepted = {0};
+        await(() -> {
+            if (!writer.offer(attempt())) return true;
+            accepted[0]++;
+            return false;
+        });
+
+        release.countDown();
+        stopping.join(5_000);
+        assertFalse(stopping.isAlive());
+        assertEquals(1 + accepted[0], Files.readAllLines(dir.resolve("attempts.spill")).size());
+    }
+
+    private QuizAttemptWriter start(QuizAttemptDao dao, int capacity, int batchSize, Duration flushInterval) {
+        QuizAttemptWriter writer = new QuizAttemptWriter(capacity, batchSize, flushInterval,
+                Duration.ofMillis(50), dir.resolve("attempts.spill"));
+        writer.quizAttemptDao = dao;
+        writer.start();
+        writers.add(writer);
+        return writer;
+    }
+
+    private void recordBatches(QuizAttemptDao dao) {
+        doAnswer(invocation -> batches.add(new ArrayList<>(invocation.getArgument(0)))).when(dao).insert(anyList());
+    }
+
+    private int written() {
+        synchronized (batches) {
+            return batches.stream().mapToInt(List::size).sum();
+        }
+    }
+
+    private static QuizAttempt attempt() {
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setId(UUID.randomUUID());
+        attempt.setQuizId(1);
+        attempt.setScore(2);
+        attempt.setAnswered(3);
+        attempt.setSubmittedAt(Instant.parse("2024-05-01T10:15:30.123Z"));
+        return attempt;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) fail("timed out");
+            Thread.sleep(5);
+        }
+    }
+}
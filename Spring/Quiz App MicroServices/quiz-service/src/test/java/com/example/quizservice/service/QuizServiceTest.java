@@ -0,0 +1,175 @@
+package com.example.quizservice.service;
+
+import com.example.quizservice.client.QuestionClient;
+import com.example.quizservice.dao.QuizDao;
+import com.example.quizservice.model.AnswerKey;
+import com.example.quizservice.model.AnswerKeySnapshot;
+import com.example.quizservice.model.QuestionWrapper;
+import com.example.quizservice.model.Quiz;
+import com.example.quizservice.model.Response;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizServiceTest {
+
+    @Mock
+    private QuizDao quizDao;
+    @Mock
+    private QuestionClient questionClient;
+    @Spy
+    private QuizPayloadCache quizPayloadCache = new QuizPayloadCache(1 << 20);
+    @Spy
+    private AnswerKeyCache answerKeyCache = new AnswerKeyCache(100, Duration.ofMinutes(1), Duration.ofMinutes(10));
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private QuizAttemptWriter quizAttemptWriter;
+
+    @InjectMocks
+    private QuizService quizService;
+
+    @BeforeEach
+    void wireAnswerKeyCache() {
+        answerKeyCache.quizDao = quizDao;
+        answerKeyCache.questionClient = questionClient;
+    }
+
+    @Test
+    void testQuizQuestionsAreLoadedOnce() {
+        Quiz quiz = new Quiz();
+        quiz.setId(1);
+        quiz.setQuestionIds(List.of(7, 3));
+        when(quizDao.findWithQuestionIdsById(1)).thenReturn(Optional.of(quiz));
+        when(questionClient.getQuestionsFromId(List.of(7, 3))).thenReturn(CompletableFuture.completedFuture(List.of(
+                new QuestionWrapper(7, "Q7", "a", "b", "c", "d"),
+                new QuestionWrapper(3, "Q3", "a", "b", "c", "d"))));
+
+        ResponseEntity<byte[]> first = quizService.getQuizQuestions(1).join();
+        ResponseEntity<byte[]> second = quizService.getQuizQuestions(1).join();
+
+        assertEquals(HttpStatus.OK, first.getStatusCode());
+        String json = new String(first.getBody(), StandardCharsets.UTF_8);
+        assertTrue(json.indexOf("\"Q7\"") < json.indexOf("\"Q3\""));
+        assertSame(first.getBody(), second.getBody());
+        verify(quizDao, times(1)).findWithQuestionIdsById(1);
+        verify(questionClient, times(1)).getQuestionsFromId(anyList());
+    }
+
+    @Test
+    void testMissingQuizIsNotFound() {
+        when(quizDao.findWithQuestionIdsById(99)).thenReturn(Optional.empty());
+
+        assertEquals(HttpStatus.NOT_FOUND, quizService.getQuizQuestions(99).join().getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND, quizService.getQuizQuestions(99).join().getStatusCode());
+        verify(quizDao, times(2)).findWithQuestionIdsById(99); // misses are not cached, the quiz may be created later
+        verifyNoInteractions(questionClient);
+    }
+
+    @Test
+    void testScoreIsComputedLocally() {
+        Quiz quiz = new Quiz();
+        quiz.setId(1);
+        quiz.setQuestionIds(List.of(7, 3));
+        when(quizDao.findWithQuestionIdsById(1)).thenReturn(Optional.of(quiz));
+        when(questionClient.getAnswerKeys(List.of(7, 3), null)).thenReturn(CompletableFuture.completedFuture(
+                new AnswerKeySnapshot("v1", List.of(new AnswerKey(7, "a"), new AnswerKey(3, "b")))));
+
+        when(quizAttemptWriter.offer(any())).thenReturn(true);
+
+        assertEquals(2, quizService.getScore(1, List.of(response(7, "a"), response(3, "b"))).join().getBody());
+        assertEquals(1, quizService.getScore(1, List.of(response(7, "a"), response(3, "c"))).join().getBody());
+        verify(questionClient, times(1)).getAnswerKeys(anyList(), any());
+        verify(questionClient, never()).getScore(anyList());
+    }
+
+    @Test
+    void testSubmissionIsRefusedWhenAttemptsCannotBeQueued() {
+        Quiz quiz = new Quiz();
+        quiz.setId(1);
+        quiz.setQuestionIds(List.of(7));
+        when(quizDao.findWithQuestionIdsById(1)).thenReturn(Optional.of(quiz));
+        when(questionClient.getAnswerKeys(List.of(7), null)).thenReturn(CompletableFuture.completedFuture(
+                new AnswerKeySnapshot("v1", List.of(new AnswerKey(7, "a")))));
+        when(quizAttemptWriter.offer(any())).thenReturn(false);
+
+        ResponseEntity<Integer> result = quizService.getScore(1, List.of(response(7, "a"))).join();
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, result.getStatusCode());
+        assertEquals("1", result.getHeaders().getFirst("Retry-After"));
+    }
+
+    @Test
+    void testScoreRejectsForeignQuestions() {
+        Quiz quiz = new Quiz();
+        quiz.setId(1);
+        quiz.setQuestionIds(List.of(7));
+        when(quizDao.findWithQuestionIdsById(1)).thenReturn(Optional.of(quiz));
+        when(questionClient.getAnswerKeys(List.of(7), null)).thenReturn(CompletableFuture.completedFuture(
+                new AnswerKeySnapshot("v1", List.of(new AnswerKey(7, "a")))));
+
+        assertEquals(HttpStatus.BAD_REQUEST, quizService.getScore(1, List.of(response(8, "a"))).join().getStatusCode());
+    }
+
+    @Test
+    void testScoreForMissingQuizIsNotFound() {
+        when(quizDao.findWithQuestionIdsById(99)).thenReturn(Optional.empty());
+
+        assertEquals(HttpStatus.NOT_FOUND, quizService.getScore(99, List.of(response(1, "a"))).join().getStatusCode());
+    }
+
+    @Test
+    void testAnswerKeysAreRevalidatedAfterRefresh() throws InterruptedException {
+        AnswerKeyCache refreshing = new AnswerKeyCache(100, Duration.ofMillis(50), Duration.ofMinutes(10));
+        refreshing.quizDao = quizDao;
+        refreshing.questionClient = questionClient;
+        Quiz quiz = new Quiz();
+        quiz.setId(1);
+        quiz.setQuestionIds(List.of(7));
+        when(quizDao.findWithQuestionIdsById(1)).thenReturn(Optional.of(quiz));
+        when(questionClient.getAnswerKeys(List.of(7), null)).thenReturn(CompletableFuture.completedFuture(
+                new AnswerKeySnapshot("v1", List.of(new AnswerKey(7, "a")))));
+        when(questionClient.getAnswerKeys(List.of(7), "v1"))
+                .thenReturn(CompletableFuture.completedFuture(null)) // unchanged: 304
+                .thenReturn(CompletableFuture.completedFuture(new AnswerKeySnapshot("v2", List.of(new AnswerKey(7, "b")))));
+
+        assertEquals("v1", refreshing.get(1).join().version());
+        Thread.sleep(100);
+        refreshing.get(1).join(); // past refresh: revalidates in the background, still answers from v1
+        verify(questionClient, timeout(1_000).times(1)).getAnswerKeys(List.of(7), "v1");
+        assertEquals("v1", refreshing.get(1).join().version());
+
+        Thread.sleep(100);
+        refreshing.get(1).join();
+        verify(questionClient, timeout(1_000).times(2)).getAnswerKeys(List.of(7), "v1");
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (!"v2".equals(refreshing.get(1).join().version())) {
+            if (System.currentTimeMillis() > deadline) fail("corrected answers never arrived");
+            Thread.sleep(10);
+        }
+        verify(quizDao, times(1)).findWithQuestionIdsById(1); // revalidation reuses the quiz's question ids
+    }
+
+    private static Response response(Integer id, String answer) {
+        Response response = new Response();
+        response.setId(id);
+        response.setResponse(answer);
+        return response;
+    }
+}
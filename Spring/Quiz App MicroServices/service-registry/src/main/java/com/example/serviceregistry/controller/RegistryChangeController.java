@@ -0,0 +1,31 @@
+package com.example.serviceregistry.controller;
+
+import com.example.serviceregistry.model.RegistryDelta;
+import com.example.serviceregistry.service.RegistryChangeFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RestController
+@RequestMapping("registry")
+public class RegistryChangeController {
+
+    private static final int MAX_WAIT_SECONDS = 60;
+
+    @Autowired
+    RegistryChangeFeed changeFeed;
+
+    // long poll: answers right away if something changed after since, otherwise holds the request until
+    // a change or for at most wait seconds (then an empty delta). since=-1 (or a too old version) gets a full snapshot
+    @GetMapping("changes")
+    public DeferredResult<RegistryDelta> getChanges(@RequestParam(defaultValue = "-1") long since,
+                                                    @RequestParam(defaultValue = "30") int wait) {
+        int timeoutSeconds = Math.max(1, Math.min(wait, MAX_WAIT_SECONDS));
+        DeferredResult<RegistryDelta> result = new DeferredResult<>(timeoutSeconds * 1000L);
+        changeFeed.await(since, result);
+        return result;
+    }
+}
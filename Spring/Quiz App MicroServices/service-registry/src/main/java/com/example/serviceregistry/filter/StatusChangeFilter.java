@@ -0,0 +1,46 @@
+package com.example.serviceregistry.filter;
+
+import com.example.serviceregistry.service.RegistryChangeFeed;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Eureka publishes no event when an instance's status is overridden (PUT /eureka/apps/{app}/{id}/status)
+// or the override is removed (DELETE on the same path), by an operator or replicated from a peer.
+// This runs ahead of Eureka's Jersey filter and logs the change once Eureka has applied it.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class StatusChangeFilter extends OncePerRequestFilter {
+
+    @Autowired
+    RegistryChangeFeed changeFeed;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        chain.doFilter(request, response);
+
+        String method = request.getMethod();
+        if (!method.equals("PUT") && !method.equals("DELETE")) return;
+        if (response.getStatus() / 100 != 2) return;
+
+        // eureka/apps/{app}/{id}/status
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        String[] segments = path.replaceFirst("^/+", "").split("/");
+        if (segments.length != 5 || !segments[0].equals("eureka") || !segments[1].equals("apps")
+                || !segments[4].equals("status")) return;
+
+        changeFeed.onStatusChanged(UriUtils.decode(segments[2], StandardCharsets.UTF_8),
+                UriUtils.decode(segments[3], StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.serviceregistry.model;
+
+// One registry change; type is REGISTERED (also sent when an instance's status changes) or CANCELLED
+// (deregistered or evicted). at is the server's epoch millis when it happened
+public record RegistryChange(long version, long at, String type, String app, String instanceId,
+                             String status, String host, int port) {
+}
@@ -0,0 +1,9 @@
+package com.example.serviceregistry.model;
+
+import java.util.List;
+
+// Answer to GET /registry/changes: the changes after the client's version, or with full=true every
+// registered instance when the client is too far behind (or new) to be sent only the changes.
+// The client passes version back as since on its next call
+public record RegistryDelta(long version, boolean full, List<RegistryChange> changes) {
+}
@@ -0,0 +1,149 @@
+package com.example.serviceregistry.service;
+
+import com.example.serviceregistry.model.RegistryChange;
+import com.example.serviceregistry.model.RegistryDelta;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Numbered log of the last registry changes, fed by the Eureka server's register/cancel events and by
+// status changes made through its REST API (StatusChangeFilter), which publish no event.
+// Clients long-poll it (RegistryChangeController) and are answered the moment something changes,
+// instead of finding out on their next registry fetch. Renewals are not changes and are not logged.
+@Service
+public class RegistryChangeFeed {
+
+    @Autowired
+    @Lazy
+    PeerAwareInstanceRegistry registry;
+
+    private final int capacity;
+    private final ArrayDeque<RegistryChange> changes = new ArrayDeque<>();
+    private final List<Waiter> waiters = new ArrayList<>();
+    private long version;
+
+    public RegistryChangeFeed(@Value("${registry.changes.capacity:10000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @EventListener
+    public void onRegistered(EurekaInstanceRegisteredEvent event) {
+        InstanceInfo info = event.getInstanceInfo();
+        record("REGISTERED", info.getAppName(), info.getInstanceId(), info.getStatus().name(), info.getHostName(), info.getPort());
+    }
+
+    @EventListener
+    public void onCanceled(EurekaInstanceCanceledEvent event) {
+        record("CANCELLED", event.getAppName(), event.getServerId(), null, null, 0);
+    }
+
+    // after Eureka applied a status update or removed an override; logged as a registration with the new status
+    public void onStatusChanged(String app, String instanceId) {
+        InstanceInfo info = registry.getInstanceByAppAndId(app, instanceId);
+        if (info == null) return;
+        record("REGISTERED", info.getAppName(), info.getInstanceId(), info.getStatus().name(), info.getHostName(), info.getPort());
+    }
+
+    // the delta after since, or null if there is nothing newer yet
+    public synchronized RegistryDelta changesSince(long since) {
+        if (since > version || since < oldestVersion() - 1) return fullSnapshot();
+        if (since == version) return null;
+
+        // versions are consecutive, so the changes after since are the last (version - since) entries
+        List<RegistryChange> newer = new ArrayList<>((int) (version - since));
+        Iterator<RegistryChange> descending = changes.descendingIterator();
+        for (long v = version; v > since; v--) newer.add(descending.next());
+        Collections.reverse(newer);
+        return new RegistryDelta(version, false, newer);
+    }
+
+    // completes result as soon as there is something after since; an empty delta if it times out first
+    public synchronized void await(long since, DeferredResult<RegistryDelta> result) {
+        RegistryDelta delta = changesSince(since);
+        if (delta != null) {
+            result.setResult(delta);
+            return;
+        }
+        Waiter waiter = new Waiter(since, result);
+        waiters.add(waiter);
+        result.onTimeout(() -> result.setResult(new RegistryDelta(since, false, List.of())));
+        result.onCompletion(() -> removeWaiter(waiter));
+    }
+
+    public synchronized long version() {
+        return version;
+    }
+
+    private synchronized void record(String type, String app, String instanceId, String status, String host, int port) {
+        changes.addLast(new RegistryChange(++version, System.currentTimeMillis(), type, app, instanceId, status, host, port));
+        if (changes.size() > capacity) changes.removeFirst();
+
+        for (Waiter waiter : new ArrayList<>(waiters)) {
+            waiter.result().setResult(changesSince(waiter.since()));
+        }
+        waiters.clear();
+    }
+
+    private synchronized void removeWaiter(Waiter waiter) {
+        waiters.remove(waiter);
+    }
+
+    private long oldestVersion() {
+        return changes.isEmpty() ? version + 1 : changes.peekFirst().version();
+    }
+
+    // every instance registered as of the current version, as REGISTERED changes at that version.
+    // Eureka publishes its events before it updates the registry, so the registry can still lag the
+    // last logged changes: the log adds instances the registry does not have yet and removes cancelled
+    // ones, but never overwrites what the registry returns, which may already be newer than the log.
+    // Once the log has removed an instance, its later registrations are the newest state there is.
+    private RegistryDelta fullSnapshot() {
+        Map<String, RegistryChange> instances = new LinkedHashMap<>();
+        long now = System.currentTimeMillis();
+        for (Application application : registry.getSortedApplications()) {
+            for (InstanceInfo info : application.getInstances()) {
+                instances.put(key(info.getAppName(), info.getInstanceId()), new RegistryChange(version, now, "REGISTERED",
+                        info.getAppName(), info.getInstanceId(), info.getStatus().name(), info.getHostName(), info.getPort()));
+            }
+        }
+        Set<String> fromLog = new HashSet<>();
+        for (RegistryChange change : changes) {
+            String key = key(change.app(), change.instanceId());
+            if (change.type().equals("CANCELLED")) {
+                instances.remove(key);
+                fromLog.add(key);
+            } else if (!instances.containsKey(key) || fromLog.contains(key)) {
+                instances.put(key, new RegistryChange(version, now, "REGISTERED", change.app(), change.instanceId(),
+                        change.status(), change.host(), change.port()));
+                fromLog.add(key);
+            }
+        }
+        return new RegistryDelta(version, true, new ArrayList<>(instances.values()));
+    }
+
+    private static String key(String app, String instanceId) {
+        return app.toUpperCase(Locale.ROOT) + "/" + instanceId;
+    }
+
+    private record Waiter(long since, DeferredResult<RegistryDelta> result) {
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.serviceregistry;
+
+import com.example.serviceregistry.model.RegistryChange;
+import com.example.serviceregistry.model.RegistryDelta;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// The registry in its fast profile with several stand-in question-service instances registering with it
+// over HTTP, and a consumer that follows GET /registry/changes and calls each instance it learns about
+@SpringBootTest(classes = ServiceRegistryApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("fast")
+class RegistryConvergenceTest {
+
+    private static final int INSTANCES = 3;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final List<ConfigurableApplicationContext> instances = new ArrayList<>();
+
+    @AfterEach
+    void stopInstances() {
+        instances.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void testRegistrationToFirstRequest() throws Exception {
+        long version = changes(-1, 1).version();
+        CompletableFuture<Void> started = CompletableFuture.runAsync(() -> {
+            for (int i = 0; i < INSTANCES; i++) startInstance("question-service-" + i, true);
+        });
+
+        // consumer: each UP instance gets a request as soon as the feed reports it
+        Map<String, Long> registrationToFirstRequest = new HashMap<>();
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (registrationToFirstRequest.size() < INSTANCES && System.currentTimeMillis() < deadline) {
+            RegistryDelta delta = changes(version, 10);
+            version = delta.version();
+            for (RegistryChange change : delta.changes()) {
+                if (!isQuestionServiceUp(change) || registrationToFirstRequest.containsKey(change.instanceId())) continue;
+                HttpResponse<String> response = get("http://" + change.host() + ":" + change.port() + "/whoami");
+                assertEquals(200, response.statusCode());
+                assertEquals(change.instanceId(), response.body());
+                registrationToFirstRequest.put(change.instanceId(), System.currentTimeMillis() - change.at());
+            }
+        }
+        started.join();
+
+        System.out.println("Registration to first request (ms): " + registrationToFirstRequest);
+        assertEquals(INSTANCES, registrationToFirstRequest.size());
+        registrationToFirstRequest.values().forEach(millis -> assertTrue(millis < 1_000, millis + " ms"));
+
+        // a late consumer gets all of them in one full snapshot
+        RegistryDelta snapshot = changes(-1, 1);
+        assertTrue(snapshot.full());
+        assertEquals(INSTANCES, snapshot.changes().stream().filter(this::isQuestionServiceUp).count());
+
+        // a clean shutdown deregisters (after reporting DOWN), and the consumer hears about it right away
+        instances.remove(0).close();
+        RegistryChange cancelled = awaitChange(version, "CANCELLED", "question-service-0");
+        assertTrue(System.currentTimeMillis() - cancelled.at() < 1_000);
+    }
+
+    @Test
+    void testCrashedInstanceIsEvictedWithinSeconds() throws Exception {
+        long version = changes(-1, 1).version();
+        ConfigurableApplicationContext crashing = startInstance("question-service-crash", false);
+        version = awaitChange(version, "REGISTERED", "question-service-crash").version();
+
+        // stops renewing without deregistering, like a killed pod
+        long crashedAt = System.currentTimeMillis();
+        instances.remove(crashing);
+        crashing.close();
+        awaitChange(version, "CANCELLED", "question-service-crash");
+
+        long evictedAfter = System.currentTimeMillis() - crashedAt;
+        System.out.println("Crash to eviction (ms): " + evictedAfter);
+        assertTrue(evictedAfter < 15_000, evictedAfter + " ms");
+    }
+
+    private boolean isQuestionServiceUp(RegistryChange change) {
+        return change.type().equals("REGISTERED") && "QUESTION-SERVICE".equals(change.app()) && "UP".equals(change.status());
+    }
+
+    private RegistryChange awaitChange(long version, String type, String instanceId) throws Exception {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            RegistryDelta delta = changes(version, 10);
+            version = delta.version();
+            for (RegistryChange change : delta.changes()) {
+                if (change.type().equals(type) && instanceId.equals(change.instanceId())) return change;
+            }
+        }
+        return fail("no " + type + " for " + instanceId);
+    }
+
+    private RegistryDelta changes(long since, int wait) throws Exception {
+        HttpResponse<String> response = get("http://localhost:" + port + "/registry/changes?since=" + since + "&wait=" + wait);
+        assertEquals(200, response.statusCode());
+        return mapper.readValue(response.body(), RegistryDelta.class);
+    }
+
+    private HttpResponse<String> get(String url) throws Exception {
+        return http.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private ConfigurableApplicationContext startInstance(String instanceId, boolean deregisterOnShutdown) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(QuestionServiceStandIn.class).run(
+                "--spring.application.name=question-service",
+                "--server.port=0",
+                "--eureka.client.register-with-eureka=true",
+                "--eureka.client.fetch-registry=false",
+                // the server's Jersey is on this classpath too; talk plain HTTP like the real services
+                "--eureka.client.jersey.enabled=false",
+                "--eureka.client.service-url.defaultZone=http://localhost:" + port + "/eureka/",
+                "--eureka.client.should-unregister-on-shutdown=" + deregisterOnShutdown,
+                "--eureka.instance.instance-id=" + instanceId,
+                "--eureka.instance.prefer-ip-address=true",
+                "--eureka.instance.ip-address=127.0.0.1",
+                "--eureka.instance.lease-renewal-interval-in-seconds=1",
+                "--eureka.instance.lease-expiration-duration-in-seconds=2");
+        synchronized (instances) {
+            instances.add(context);
+        }
+        return context;
+    }
+
+    // a question-service replica for the registry's purposes: registers itself and answers a request
+    // plain @Configuration: a second @SpringBootConfiguration would confuse @SpringBootTest's lookup
+    @Configuration(proxyBeanMethods = false)
+    @EnableAutoConfiguration
+    @RestController
+    static class QuestionServiceStandIn {
+
+        @Value("${eureka.instance.instance-id}")
+        private String instanceId;
+
+        @GetMapping("whoami")
+        public String whoami() {
+            return instanceId;
+        }
+    }
+}
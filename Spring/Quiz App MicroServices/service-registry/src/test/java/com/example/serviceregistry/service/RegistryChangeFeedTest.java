@@ -0,0 +1,110 @@
+package com.example.serviceregistry.service;
+
+import com.example.serviceregistry.model.RegistryChange;
+import com.example.serviceregistry.model.RegistryDelta;
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.shared.Application;
+import com.netflix.eureka.registry.PeerAwareInstanceRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceCanceledEvent;
+import org.springframework.cloud.netflix.eureka.server.event.EurekaInstanceRegisteredEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Eureka publishes its events before it changes the registry; a snapshot taken in between must
+// already match its version
+class RegistryChangeFeedTest {
+
+    private final PeerAwareInstanceRegistry registry = mock(PeerAwareInstanceRegistry.class);
+    private final List<Application> applications = new ArrayList<>();
+    private RegistryChangeFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        when(registry.getSortedApplications()).thenAnswer(invocation -> applications);
+        feed = new RegistryChangeFeed(100);
+        feed.registry = registry;
+    }
+
+    @Test
+    void testSnapshotHasAnInstanceTheRegistryHasNotAddedYet() {
+        feed.onRegistered(new EurekaInstanceRegisteredEvent(this, instance("a"), 30, false));
+
+        RegistryDelta snapshot = feed.changesSince(-1);
+
+        assertTrue(snapshot.full());
+        assertEquals(feed.version(), snapshot.version());
+        assertEquals(List.of("a"), snapshot.changes().stream().map(RegistryChange::instanceId).toList());
+    }
+
+    @Test
+    void testSnapshotLeavesOutAnInstanceTheRegistryHasNotRemovedYet() {
+        feed.onRegistered(new EurekaInstanceRegisteredEvent(this, instance("a"), 30, false));
+        feed.onRegistered(new EurekaInstanceRegisteredEvent(this, instance("b"), 30, false));
+        Application application = new Application("QUESTION-SERVICE");
+        application.addInstance(instance("a"));
+        application.addInstance(instance("b"));
+        applications.add(application);
+
+        feed.onCanceled(new EurekaInstanceCanceledEvent(this, "QUESTION-SERVICE", "a", false));
+
+        assertEquals(List.of("b"), feed.changesSince(-1).changes().stream().map(RegistryChange::instanceId).toList());
+    }
+
+    @Test
+    void testSnapshotKeepsAStatusTheRegistryAlreadyChanged() {
+        feed.onRegistered(new EurekaInstanceRegisteredEvent(this, instance("a"), 30, false));
+        InstanceInfo down = instance("a");
+        down.setStatusWithoutDirty(InstanceInfo.InstanceStatus.DOWN);
+        Application application = new Application("QUESTION-SERVICE");
+        application.addInstance(down);
+        applications.add(application);
+
+        assertEquals(List.of("DOWN"), feed.changesSince(-1).changes().stream().map(RegistryChange::status).toList());
+    }
+
+    @Test
+    void testStatusChangeIsLogged() {
+        feed.onRegistered(new EurekaInstanceRegisteredEvent(this, instance("a"), 30, false));
+        long before = feed.version();
+        InstanceInfo outOfService = instance("a");
+        outOfService.setStatusWithoutDirty(InstanceInfo.InstanceStatus.OUT_OF_SERVICE);
+        when(registry.getInstanceByAppAndId("QUESTION-SERVICE", "a")).thenReturn(outOfService);
+
+        feed.onStatusChanged("QUESTION-SERVICE", "a");
+
+        List<RegistryChange> changes = feed.changesSince(before).changes();
+        assertEquals(1, changes.size());
+        assertEquals("OUT_OF_SERVICE", changes.get(0).status());
+    }
+
+    @Test
+    void testSnapshotReplaysAReRegistrationTheRegistryHasNotSeenYet() {
+        Application application = new Application("QUESTION-SERVICE");
+        application.addInstance(instance("a"));
+        applications.add(application);
+        InstanceInfo down = instance("a");
+        down.setStatusWithoutDirty(InstanceInfo.InstanceStatus.DOWN);
+
+        feed.onCanceled(new EurekaInstanceCanceledEvent(this, "QUESTION-SERVICE", "a", false));
+        feed.onRegistered(new EurekaInstanceRegisteredEvent(this, instance("a"), 30, false));
+        feed.onRegistered(new EurekaInstanceRegisteredEvent(this, down, 30, false));
+
+        assertEquals(List.of("DOWN"), feed.changesSince(-1).changes().stream().map(RegistryChange::status).toList());
+    }
+
+    private static InstanceInfo instance(String instanceId) {
+        return InstanceInfo.Builder.newBuilder()
+                .setAppName("QUESTION-SERVICE")
+                .setInstanceId(instanceId)
+                .setHostName("localhost")
+                .setPort(8080)
+                .setStatus(InstanceInfo.InstanceStatus.UP)
+                .build();
+    }
+}
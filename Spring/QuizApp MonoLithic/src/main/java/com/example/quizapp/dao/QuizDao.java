@@ -1,10 +1,25 @@
 package com.example.quizapp.dao;
 
-import com.example.quizapp.model.Question;
+import com.example.quizapp.model.AnswerKey;
+import com.example.quizapp.model.QuestionWrapper;
 import com.example.quizapp.model.Quiz;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface QuizDao extends JpaRepository<Quiz, Integer> {
+
+    // only the columns a player sees, in quiz order, in one statement and without loading any entity
+    @Query("select new com.example.quizapp.model.QuestionWrapper(q.id, q.questionTitle, q.option1, q.option2, q.option3, q.option4) " +
+            "from Quiz z join z.questions q where z.id = :id order by index(q)")
+    List<QuestionWrapper> findQuestionWrappersByQuizId(Integer id);
+
+    // what scoring needs, same single join
+    @Query("select new com.example.quizapp.model.AnswerKey(q.id, q.rightAnswer) from Quiz z join z.questions q where z.id = :id")
+    List<AnswerKey> findAnswerKeysByQuizId(Integer id);
+
+    // the quizzes a question is part of, whose cached answer keys go stale when it is saved
+    @Query("select z.id from Quiz z join z.questions q where q.id = :questionId")
+    List<Integer> findIdsByQuestionId(Integer questionId);
 }
@@ -0,0 +1,49 @@
+package com.example.quizapp.dao;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Quizzes created before Quiz.questions had an @OrderColumn have no question_order in quiz_questions,
+// and Hibernate can't load a list with null positions. Their order was never defined, so they are
+// numbered by question id, after any position the quiz already has. Runs once at startup, after
+// Hibernate has added the column (the EntityManagerFactory dependency makes sure of that).
+@Component
+public class QuizQuestionOrderBackfill {
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    // idempotent: only rows still without a position are touched
+    @PostConstruct
+    public void backfill() {
+        List<Object[]> unordered = jdbcTemplate.query(
+                "SELECT quiz_id, questions_id FROM quiz_questions WHERE question_order IS NULL ORDER BY quiz_id, questions_id",
+                (rs, rowNum) -> new Object[]{rs.getInt(1), rs.getInt(2)});
+        if (unordered.isEmpty()) return;
+
+        List<Object[]> updates = new ArrayList<>();
+        int currentQuiz = -1;
+        int next = 0;
+        for (Object[] row : unordered) {
+            int quizId = (Integer) row[0];
+            if (quizId != currentQuiz) {
+                currentQuiz = quizId;
+                Integer max = jdbcTemplate.queryForObject(
+                        "SELECT MAX(question_order) FROM quiz_questions WHERE quiz_id = ?", Integer.class, quizId);
+                next = max == null ? 0 : max + 1;
+            }
+            updates.add(new Object[]{next++, quizId, row[1]});
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE quiz_questions SET question_order = ? WHERE quiz_id = ? AND questions_id = ? AND question_order IS NULL", updates);
+        System.out.println("Numbered " + updates.size() + " quiz questions that had no position");
+    }
+}
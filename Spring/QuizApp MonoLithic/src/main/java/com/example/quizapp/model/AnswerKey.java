@@ -0,0 +1,4 @@
+package com.example.quizapp.model;
+
+public record AnswerKey(Integer id, String rightAnswer) {
+}
@@ -13,6 +13,8 @@ public class Quiz {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Integer id;
     private String title;
+    // position in the quiz is stored, so questions come back in the order they were picked
     @ManyToMany
+    @OrderColumn(name = "question_order")
     private List<Question> questions;
 }
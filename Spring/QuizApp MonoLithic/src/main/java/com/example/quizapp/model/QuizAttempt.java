@@ -0,0 +1,23 @@
+package com.example.quizapp.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// One scored submission. The id is assigned when the submission is scored, so an attempt
+// written twice (replayed from the spill file) is recognised as the same row.
+@Data
+@Entity
+public class QuizAttempt {
+
+    @Id
+    private UUID id;
+    private Integer quizId;
+    private Integer score;
+    private Integer answered;
+    private Instant submittedAt;
+
+}
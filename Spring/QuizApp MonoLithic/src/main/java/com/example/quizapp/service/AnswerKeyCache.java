@@ -0,0 +1,48 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dao.QuizDao;
+import com.example.quizapp.model.AnswerKey;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// QuizAnswerKey per quiz id. A quiz's questions never change after it is created, so a key is built
+// once (one projection query) and every later submission for that quiz is scored without the database.
+// A saved question can change its right answer, so QuestionService evicts every quiz that holds it.
+// Past max-quizzes the least used keys make room, so new quizzes are always cached.
+@Component
+public class AnswerKeyCache {
+
+    @Autowired
+    QuizDao quizDao;
+
+    private final Cache<Integer, QuizAnswerKey> keys;
+
+    public AnswerKeyCache(@Value("${quiz.answer-keys.max-quizzes:10000}") long maxQuizzes) {
+        keys = Caffeine.newBuilder().maximumSize(maxQuizzes).build();
+    }
+
+    // null if there is no such quiz (not cached, it may be created later); concurrent misses share one load
+    public QuizAnswerKey get(Integer quizId) {
+        return keys.get(quizId, this::load);
+    }
+
+    public void evict(Integer quizId) {
+        keys.invalidate(quizId);
+    }
+
+    // after the question is committed; a load still reading the old answer finishes before its key is removed
+    public void evictQuizzesWith(Integer questionId) {
+        keys.invalidateAll(quizDao.findIdsByQuestionId(questionId));
+    }
+
+    private QuizAnswerKey load(Integer quizId) {
+        List<AnswerKey> answerKeys = quizDao.findAnswerKeysByQuizId(quizId);
+        if (answerKeys.isEmpty() && !quizDao.existsById(quizId)) return null;
+        return new QuizAnswerKey(answerKeys);
+    }
+}
@@ -14,6 +14,8 @@ import java.util.List;
 public class QuestionService {
     @Autowired
     QuestionDao questionDao;
+    @Autowired
+    AnswerKeyCache answerKeyCache;
 
     public ResponseEntity<List<Question>> getAllQuestions() {
         try {
@@ -36,8 +38,11 @@ public class QuestionService {
 
     }
 
+    // a question saved with an existing id may have a new right answer for the quizzes it is in
     public ResponseEntity<String> addQuestion(Question question) {
+        boolean existing = question.getId() != null;
         questionDao.save(question);
+        if (existing) answerKeyCache.evictQuizzesWith(question.getId());
         return new ResponseEntity<>("success", HttpStatus.CREATED);
     }
 
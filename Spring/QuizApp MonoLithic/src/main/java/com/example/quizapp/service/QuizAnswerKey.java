@@ -0,0 +1,74 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.model.AnswerKey;
+import com.example.quizapp.model.Response;
+
+import java.util.Arrays;
+import java.util.List;
+
+// The right answers of one quiz, immutable once built. Question ids sit in a small open-addressing
+// table (at most half full) next to their answers, so finding the answer for a response is a hash and
+// usually one probe, whatever order the responses come in.
+public final class QuizAnswerKey {
+
+    private static final int EMPTY = 0; // question ids are identity values, never 0
+
+    private final int[] slots;        // question id per slot, EMPTY if unused
+    private final int[] slotIndex;    // index into rightAnswers for the id in that slot
+    private final String[] rightAnswers;
+    private final int mask;
+
+    public QuizAnswerKey(List<AnswerKey> answerKeys) {
+        int capacity = Integer.highestOneBit(Math.max(2, answerKeys.size()) * 2 - 1) << 1;
+        slots = new int[capacity];
+        slotIndex = new int[capacity];
+        mask = capacity - 1;
+
+        String[] answers = new String[answerKeys.size()];
+        int size = 0;
+        for (AnswerKey key : answerKeys) {
+            int slot = find(key.id());
+            if (slots[slot] == key.id()) continue; // the same question twice in a quiz counts once
+            slots[slot] = key.id();
+            slotIndex[slot] = size;
+            answers[size++] = key.rightAnswer();
+        }
+        rightAnswers = size == answers.length ? answers : Arrays.copyOf(answers, size);
+    }
+
+    // throws IllegalArgumentException if a response is for a question outside this quiz or answers one twice
+    public int score(List<Response> responses) {
+        boolean[] answered = new boolean[rightAnswers.length];
+        int score = 0;
+        for (int i = 0; i < responses.size(); i++) {
+            Response response = responses.get(i);
+            Integer id = response.getId();
+            int index = indexOf(id);
+            if (index < 0) throw new IllegalArgumentException("Question " + id + " is not part of this quiz");
+            if (answered[index]) throw new IllegalArgumentException("Question " + id + " is answered more than once");
+            answered[index] = true;
+
+            String rightAnswer = rightAnswers[index];
+            if (rightAnswer != null && rightAnswer.equals(response.getResponse())) score++;
+        }
+        return score;
+    }
+
+    public int size() {
+        return rightAnswers.length;
+    }
+
+    private int indexOf(Integer id) {
+        if (id == null || id == EMPTY) return -1;
+        int slot = find(id);
+        return slots[slot] == id ? slotIndex[slot] : -1;
+    }
+
+    // the slot holding id, or the empty slot where it would go
+    private int find(int id) {
+        int hash = id * 0x9E3779B9; // sequential ids spread over the table
+        int slot = (hash ^ hash >>> 16) & mask;
+        while (slots[slot] != EMPTY && slots[slot] != id) slot = (slot + 1) & mask;
+        return slot;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.model.QuizAttempt;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// Local file for attempts that could not be written to the database, one attempt per line:
+// id,quizId,score,answered,submittedAt. Appends are forced to disk before they return,
+// so a spilled attempt survives the process dying right after.
+class QuizAttemptSpillFile {
+
+    private final Path path;
+
+    QuizAttemptSpillFile(Path path) {
+        this.path = path;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    synchronized boolean isEmpty() {
+        try {
+            return !Files.exists(path) || Files.size(path) == 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized void append(List<QuizAttempt> attempts) {
+        StringBuilder lines = new StringBuilder();
+        for (QuizAttempt attempt : attempts) {
+            lines.append(attempt.getId()).append(',')
+                    .append(attempt.getQuizId()).append(',')
+                    .append(attempt.getScore()).append(',')
+                    .append(attempt.getAnswered()).append(',')
+                    .append(attempt.getSubmittedAt()).append('\n');
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) channel.write(buffer);
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // a line cut short by a crash mid-append is skipped
+    synchronized List<QuizAttempt> readAll() {
+        List<QuizAttempt> attempts = new ArrayList<>();
+        if (!Files.exists(path)) return attempts;
+        try {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) continue;
+                try {
+                    String[] fields = line.split(",");
+                    QuizAttempt attempt = new QuizAttempt();
+                    attempt.setId(UUID.fromString(fields[0]));
+                    attempt.setQuizId(Integer.parseInt(fields[1]));
+                    attempt.setScore(Integer.parseInt(fields[2]));
+                    attempt.setAnswered(Integer.parseInt(fields[3]));
+                    attempt.setSubmittedAt(Instant.parse(fields[4]));
+                    attempts.add(attempt);
+                } catch (RuntimeException e) {
+                    System.out.println("Skipping unreadable line in " + path + ": " + line);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return attempts;
+    }
+
+    synchronized void delete() {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dao.QuizAttemptDao;
+import com.example.quizapp.model.QuizAttempt;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Write-behind for quiz attempts. Submissions only put their attempt on a bounded queue; one writer
+// thread takes them off in batches and inserts each batch in one JDBC round trip. A batch is written
+// once it is full or once its first attempt has waited flush-interval, whichever comes first.
+// A full queue refuses the attempt (the caller answers 503) instead of growing without bound.
+// Batches the database doesn't take are appended to a local spill file, as is whatever is still queued
+// at shutdown; the file is written to the database at startup and as soon as the database is back.
+@Component
+public class QuizAttemptWriter {
+
+    @Autowired
+    QuizAttemptDao quizAttemptDao;
+
+    private final BlockingQueue<QuizAttempt> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long retryIntervalNanos;
+    private final QuizAttemptSpillFile spillFile;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final Object admission = new Object(); // running only changes, and attempts only enter, under it
+    private volatile boolean running;
+    private Thread writer;
+    private List<QuizAttempt> unfinished = List.of(); // batch the writer had not written when it exited
+
+    // writer thread only
+    private long databaseDownUntil;
+    private long spilled;
+
+    public QuizAttemptWriter(@Value("${quiz.attempts.queue-capacity:10000}") int queueCapacity,
+                             @Value("${quiz.attempts.batch-size:500}") int batchSize,
+                             @Value("${quiz.attempts.flush-interval:200ms}") Duration flushInterval,
+                             @Value("${quiz.attempts.retry-interval:5s}") Duration retryInterval,
+                             @Value("${quiz.attempts.spill-file:quiz-attempts.spill}") Path spillFile) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.spillFile = new QuizAttemptSpillFile(spillFile);
+    }
+
+    @PostConstruct
+    public void start() {
+        databaseDownUntil = System.nanoTime();
+        if (!spillFile.isEmpty()) replaySpillFile();
+        synchronized (admission) {
+            running = true;
+        }
+        writer = new Thread(this::run, "quiz-attempt-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // false when the queue is full or the writer has stopped; never blocks the submitting thread
+    public boolean offer(QuizAttempt attempt) {
+        synchronized (admission) {
+            if (running && queue.offer(attempt)) return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    public long rejected() {
+        return rejected.get();
+    }
+
+    // Nothing is admitted once this starts. The writer is waited for, however long its current batch takes
+    // (a hung database ends in a failed insert and a spill), so that it has let go of the queue and its
+    // batch before whatever is left goes to the database or the spill file.
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        synchronized (admission) {
+            running = false;
+        }
+        writer.join();
+
+        List<QuizAttempt> remaining = new ArrayList<>(unfinished);
+        queue.drainTo(remaining);
+        if (remaining.isEmpty()) return;
+        try {
+            quizAttemptDao.insert(remaining);
+            System.out.println("Wrote the last " + remaining.size() + " quiz attempts");
+        } catch (RuntimeException e) {
+            spillFile.append(remaining);
+            System.out.println("Spilled the last " + remaining.size() + " quiz attempts to " + spillFile.path());
+        }
+    }
+
+    private void run() {
+        List<QuizAttempt> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                QuizAttempt first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    if (System.nanoTime() - databaseDownUntil >= 0 && !spillFile.isEmpty()) replaySpillFile();
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long left = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || left <= 0) break;
+                    QuizAttempt next = queue.poll(left, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                write(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // e.g. the spill file can't be written: stop taking attempts rather than queue ones nobody writes
+            synchronized (admission) {
+                running = false;
+            }
+            System.out.println("Quiz attempt writer failed: " + e);
+        } finally {
+            unfinished = batch; // read by stop() after join
+        }
+    }
+
+    private void write(List<QuizAttempt> batch) {
+        // while the database is known to be down, don't make every batch wait for a connection timeout
+        if (System.nanoTime() - databaseDownUntil < 0) {
+            spill(batch);
+            return;
+        }
+        try {
+            quizAttemptDao.insert(batch);
+        } catch (RuntimeException e) {
+            System.out.println("Could not write " + batch.size() + " quiz attempts: " + e.getMessage());
+            databaseDownUntil = System.nanoTime() + retryIntervalNanos;
+            spill(batch);
+            return;
+        }
+        if (!spillFile.isEmpty()) replaySpillFile();
+    }
+
+    private void spill(List<QuizAttempt> batch) {
+        spillFile.append(batch);
+        spilled += batch.size();
+        System.out.println("Spilled " + batch.size() + " quiz attempts to " + spillFile.path() + " (" + spilled + " so far)");
+    }
+
+    // the file is only deleted once every attempt in it is in the database; a replay cut short
+    // is repeated in full later, and attempts it already wrote are skipped
+    private void replaySpillFile() {
+        synchronized (spillFile) {
+            List<QuizAttempt> attempts = spillFile.readAll();
+            try {
+                int replayed = 0;
+                for (int from = 0; from < attempts.size(); from += batchSize) {
+                    replayed += quizAttemptDao.insertMissing(attempts.subList(from, Math.min(from + batchSize, attempts.size())));
+                }
+                spillFile.delete();
+                System.out.println("Replayed " + replayed + " quiz attempts from " + spillFile.path());
+            } catch (RuntimeException e) {
+                System.out.println("Could not replay " + spillFile.path() + ", keeping it: " + e.getMessage());
+                databaseDownUntil = System.nanoTime() + retryIntervalNanos;
+            }
+        }
+    }
+}
@@ -5,14 +5,17 @@ import com.example.quizapp.dao.QuizDao;
 import com.example.quizapp.model.Question;
 import com.example.quizapp.model.QuestionWrapper;
 import com.example.quizapp.model.Quiz;
+import com.example.quizapp.model.QuizAttempt;
 import com.example.quizapp.model.Response;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 public class QuizService {
@@ -21,6 +24,10 @@ public class QuizService {
     QuizDao quizDao;
     @Autowired
     QuestionDao questionDao;
+    @Autowired
+    AnswerKeyCache answerKeyCache;
+    @Autowired
+    QuizAttemptWriter quizAttemptWriter;
 
 
     public ResponseEntity<String> createQuiz(String category, int numQ, String title) {
@@ -34,29 +41,38 @@ public class QuizService {
     }
 
     public ResponseEntity<List<QuestionWrapper>> getQuizQuestions(Integer id) {
-        Quiz quiz = quizDao.findById(id).orElse(new Quiz());
-        List<Question> questionsFromDb = quiz.getQuestions();
-        List<QuestionWrapper> questionsForUser = new ArrayList<>();
-
-        for (Question q : questionsFromDb) {
-            QuestionWrapper qw = new QuestionWrapper(q.getId(), q.getQuestionTitle(), q.getOption1(), q.getOption2(), q.getOption3(), q.getOption4());
-            questionsForUser.add(qw);
-        }
+        List<QuestionWrapper> questionsForUser = quizDao.findQuestionWrappersByQuizId(id);
+        // an empty result is either an unknown quiz or one without questions, only then is it worth a second query
+        if (questionsForUser.isEmpty() && !quizDao.existsById(id))
+            return new ResponseEntity<>(questionsForUser, HttpStatus.NOT_FOUND);
 
         return new ResponseEntity<>(questionsForUser, HttpStatus.OK);
-//        return ResponseEntity.ok(questionsForUser);
-//        return ResponseEntity.ok().body(questionsForUser);
     }
 
+    // responses are matched to questions by id, in any order, against the quiz's cached answer key
     public ResponseEntity<Integer> calculateResult(Integer id, List<Response> responses) {
-        Quiz quiz = quizDao.findById(id).orElse(new Quiz());
-        List<Question> questions = quiz.getQuestions();
-        int score = 0;
-        for (int i = 0; i < questions.size(); i++) {
-            if (responses.get(i).getResponse().equals(questions.get(i).getRightAnswer()))
-                score++;
+        QuizAnswerKey answerKey = answerKeyCache.get(id);
+        if (answerKey == null)
+            return new ResponseEntity<>(0, HttpStatus.NOT_FOUND);
+
+        int score;
+        try {
+            score = answerKey.score(responses);
+        } catch (IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            return new ResponseEntity<>(0, HttpStatus.BAD_REQUEST);
         }
 
+        // recorded write-behind; when the writer is this far behind, the client is asked to retry
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setId(UUID.randomUUID());
+        attempt.setQuizId(id);
+        attempt.setScore(score);
+        attempt.setAnswered(responses.size());
+        attempt.setSubmittedAt(Instant.now());
+        if (!quizAttemptWriter.offer(attempt))
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+
         return ResponseEntity.ok(score);
     }
 }
@@ -0,0 +1,123 @@
+package com.example.quizapp.benchmark;
+
+import com.example.quizapp.QuizappApplication;
+import com.example.quizapp.dao.QuestionDao;
+import com.example.quizapp.dao.QuizDao;
+import com.example.quizapp.model.Question;
+import com.example.quizapp.model.Quiz;
+import com.example.quizapp.model.QuizAttempt;
+import com.example.quizapp.model.Response;
+import com.example.quizapp.service.AnswerKeyCache;
+import com.example.quizapp.service.QuizAttemptWriter;
+import com.example.quizapp.service.QuizService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Submissions/sec through QuizService.calculateResult on an embedded H2, with the answer key cached
+// (every submission after the first) and evicted (what each submission cost before: a trip to the database).
+// Responses are shuffled, the way a client that reorders answers would send them.
+// Each attempt is built but not queued: at these rates the writer's queue would fill within
+// milliseconds and the benchmark would be measuring 503s.
+// Run with: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.quizapp.benchmark.QuizSubmissionBenchmark
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QuizSubmissionBenchmark {
+
+    @Param({"10", "100"})
+    public int questions;
+
+    private ConfigurableApplicationContext context;
+    private QuizService quizService;
+    private AnswerKeyCache answerKeyCache;
+    private Integer quizId;
+    private List<Response> responses;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(QuizappApplication.class).run(
+                "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.main.web-application-type=none");
+        quizService = context.getBean(QuizService.class);
+        answerKeyCache = context.getBean(AnswerKeyCache.class);
+        ReflectionTestUtils.setField(quizService, "quizAttemptWriter", new DiscardingAttemptWriter());
+
+        List<Question> saved = new ArrayList<>();
+        responses = new ArrayList<>();
+        QuestionDao questionDao = context.getBean(QuestionDao.class);
+        for (int i = 0; i < questions; i++) {
+            Question question = new Question();
+            question.setQuestionTitle("Question " + i);
+            question.setRightAnswer("right" + i);
+            question.setCategory("bench");
+            saved.add(questionDao.save(question));
+
+            Response response = new Response();
+            response.setId(question.getId());
+            response.setResponse(i % 3 == 0 ? "wrong" : "right" + i);
+            responses.add(response);
+        }
+        Collections.shuffle(responses, new Random(42));
+
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Bench");
+        quiz.setQuestions(saved);
+        quizId = context.getBean(QuizDao.class).save(quiz).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Integer cachedSubmission() {
+        return quizService.calculateResult(quizId, responses).getBody();
+    }
+
+    @Benchmark
+    public Integer uncachedSubmission() {
+        answerKeyCache.evict(quizId);
+        return quizService.calculateResult(quizId, responses).getBody();
+    }
+
+    static class DiscardingAttemptWriter extends QuizAttemptWriter {
+
+        DiscardingAttemptWriter() {
+            super(1, 1, Duration.ZERO, Duration.ZERO, Path.of("unused"));
+        }
+
+        @Override
+        public boolean offer(QuizAttempt attempt) {
+            return true;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(QuizSubmissionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
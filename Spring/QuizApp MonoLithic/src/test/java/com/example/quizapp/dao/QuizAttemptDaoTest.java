@@ -0,0 +1,46 @@
+package com.example.quizapp.dao;
+
+import com.example.quizapp.model.QuizAttempt;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(QuizAttemptDao.class)
+class QuizAttemptDaoTest {
+
+    @Autowired
+    private QuizAttemptDao quizAttemptDao;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testAReplayCommittedBeforeItsFileWentIsNotWrittenTwice() {
+        List<QuizAttempt> spilled = List.of(attempt(), attempt());
+        quizAttemptDao.insert(spilled.subList(0, 1));
+
+        // the whole file again, as if the process died after part of a replay
+        assertEquals(1, quizAttemptDao.insertMissing(spilled));
+        assertEquals(0, quizAttemptDao.insertMissing(spilled));
+
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM quiz_attempt WHERE quiz_id = 4", Integer.class));
+    }
+
+    private static QuizAttempt attempt() {
+        QuizAttempt attempt = new QuizAttempt();
+        attempt.setId(UUID.randomUUID());
+        attempt.setQuizId(4);
+        attempt.setScore(2);
+        attempt.setAnswered(3);
+        attempt.setSubmittedAt(Instant.parse("2024-05-01T10:15:30.123Z"));
+        return attempt;
+    }
+}
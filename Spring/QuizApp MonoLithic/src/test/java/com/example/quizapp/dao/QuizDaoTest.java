@@ -0,0 +1,115 @@
+package com.example.quizapp.dao;
+
+import com.example.quizapp.model.Question;
+import com.example.quizapp.model.QuestionWrapper;
+import com.example.quizapp.model.Quiz;
+import com.example.quizapp.service.AnswerKeyCache;
+import com.example.quizapp.service.QuizAttemptWriter;
+import com.example.quizapp.service.QuizService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Embedded H2 with Hibernate statistics, to count statements and loaded entities
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({QuizService.class, AnswerKeyCache.class, QuizAttemptWriter.class, QuizAttemptDao.class, QuizQuestionOrderBackfill.class})
+class QuizDaoTest {
+
+    @Autowired
+    private QuizDao quizDao;
+    @Autowired
+    private QuestionDao questionDao;
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizQuestionOrderBackfill backfill;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Question> questions = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 4; i++) {
+            Question question = new Question();
+            question.setQuestionTitle("Question " + i);
+            question.setOption1("a" + i);
+            question.setOption2("b" + i);
+            question.setOption3("c" + i);
+            question.setOption4("d" + i);
+            question.setRightAnswer("a" + i);
+            question.setCategory("java");
+            questions.add(questionDao.save(question));
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void testQuizQuestionsInQuizOrderInOneStatement() {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Java");
+        quiz.setQuestions(List.of(questions.get(2), questions.get(0), questions.get(3)));
+        Integer quizId = quizDao.save(quiz).getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<QuestionWrapper> wrappers = quizDao.findQuestionWrappersByQuizId(quizId);
+
+        assertEquals(List.of(questions.get(2).getId(), questions.get(0).getId(), questions.get(3).getId()),
+                wrappers.stream().map(QuestionWrapper::getId).toList());
+        assertEquals("Question 3", wrappers.get(0).getQuestionTitle());
+        assertEquals("d3", wrappers.get(0).getOption4());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testUnknownQuizIsNotFound() {
+        assertEquals(HttpStatus.NOT_FOUND, quizService.getQuizQuestions(-1).getStatusCode());
+    }
+
+    @Test
+    void testLegacyRowsWithoutPositionAreNumberedByQuestionId() {
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Legacy");
+        quiz.setQuestions(new ArrayList<>());
+        Integer quizId = quizDao.save(quiz).getId();
+        entityManager.flush();
+        // an existing schema gets question_order from ddl-auto=update as a plain nullable column,
+        // and rows written before it existed have no position
+        jdbcTemplate.execute("ALTER TABLE quiz_questions DROP PRIMARY KEY");
+        jdbcTemplate.execute("ALTER TABLE quiz_questions ALTER COLUMN question_order SET NULL");
+        for (int i : new int[]{3, 1, 2}) {
+            jdbcTemplate.update("INSERT INTO quiz_questions (quiz_id, questions_id) VALUES (?, ?)", quizId, questions.get(i).getId());
+        }
+
+        backfill.backfill();
+        entityManager.clear();
+
+        assertEquals(List.of(questions.get(1).getId(), questions.get(2).getId(), questions.get(3).getId()),
+                quizDao.findQuestionWrappersByQuizId(quizId).stream().map(QuestionWrapper::getId).toList());
+        assertEquals(3, quizDao.findById(quizId).orElseThrow().getQuestions().size());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dao.QuizDao;
+import com.example.quizapp.model.AnswerKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AnswerKeyCacheTest {
+
+    private final QuizDao quizDao = mock(QuizDao.class);
+
+    @Test
+    void testNewQuizzesAreCachedPastTheLimit() {
+        when(quizDao.findAnswerKeysByQuizId(anyInt())).thenAnswer(invocation ->
+                List.of(new AnswerKey(invocation.getArgument(0), "a")));
+        AnswerKeyCache cache = new AnswerKeyCache(2);
+        cache.quizDao = quizDao;
+
+        for (int quizId = 1; quizId <= 100; quizId++) cache.get(quizId);
+        for (int i = 0; i < 50; i++) assertEquals(1, cache.get(101).size());
+
+        // admitted once it has been asked for more than the quizzes it replaces
+        verify(quizDao, atMost(2)).findAnswerKeysByQuizId(101);
+    }
+
+    @Test
+    void testUnknownQuizIsNotCached() {
+        when(quizDao.findAnswerKeysByQuizId(7)).thenReturn(List.of());
+        when(quizDao.existsById(7)).thenReturn(false);
+        AnswerKeyCache cache = new AnswerKeyCache(10);
+        cache.quizDao = quizDao;
+
+        assertNull(cache.get(7));
+        assertNull(cache.get(7));
+        verify(quizDao, times(2)).findAnswerKeysByQuizId(7);
+    }
+
+    @Test
+    void testSavedQuestionEvictsTheQuizzesHoldingIt() {
+        when(quizDao.findAnswerKeysByQuizId(anyInt())).thenReturn(List.of(new AnswerKey(5, "a")));
+        when(quizDao.findIdsByQuestionId(5)).thenReturn(List.of(1, 2));
+        AnswerKeyCache cache = new AnswerKeyCache(10);
+        cache.quizDao = quizDao;
+        for (int quizId = 1; quizId <= 3; quizId++) cache.get(quizId);
+
+        cache.evictQuizzesWith(5);
+        for (int quizId = 1; quizId <= 3; quizId++) cache.get(quizId);
+
+        verify(quizDao, times(2)).findAnswerKeysByQuizId(1);
+        verify(quizDao, times(2)).findAnswerKeysByQuizId(2);
+        verify(quizDao, times(1)).findAnswerKeysByQuizId(3);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.model.AnswerKey;
+import com.example.quizapp.model.Response;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuizAnswerKeyTest {
+
+    private final QuizAnswerKey answerKey = new QuizAnswerKey(List.of(
+            new AnswerKey(7, "a"), new AnswerKey(3, "b"), new AnswerKey(12, "c")));
+
+    @Test
+    void testScoresByIdInAnyOrder() {
+        assertEquals(3, answerKey.score(List.of(response(12, "c"), response(7, "a"), response(3, "b"))));
+        assertEquals(2, answerKey.score(List.of(response(3, "b"), response(12, "wrong"), response(7, "a"))));
+        assertEquals(1, answerKey.score(List.of(response(3, "b"))));
+        assertEquals(0, answerKey.score(List.of(response(7, null))));
+    }
+
+    @Test
+    void testRejectsForeignAndRepeatedQuestions() {
+        assertThrows(IllegalArgumentException.class, () -> answerKey.score(List.of(response(8, "a"))));
+        assertThrows(IllegalArgumentException.class, () -> answerKey.score(List.of(response(null, "a"))));
+        assertThrows(IllegalArgumentException.class, () -> answerKey.score(List.of(response(7, "a"), response(7, "a"))));
+    }
+
+    @Test
+    void testLargeQuizWithCollidingIds() {
+        // multiples of the table size land on few slots before mixing; every one must still be found
+        List<AnswerKey> keys = new ArrayList<>();
+        List<Response> responses = new ArrayList<>();
+        for (int i = 1; i <= 500; i++) {
+            keys.add(new AnswerKey(i * 1024, "answer" + i));
+            responses.add(response(i * 1024, i % 2 == 0 ? "answer" + i : "wrong"));
+        }
+        Collections.shuffle(responses, new Random(1));
+
+        QuizAnswerKey large = new QuizAnswerKey(keys);
+        assertEquals(500, large.size());
+        assertEquals(250, large.score(responses));
+    }
+
+    private static Response response(Integer id, String answer) {
+        Response response = new Response();
+        response.setId(id);
+        response.setResponse(answer);
+        return response;
+    }
+}
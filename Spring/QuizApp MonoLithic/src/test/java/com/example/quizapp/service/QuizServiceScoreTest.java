@@ -0,0 +1,122 @@
+package com.example.quizapp.service;
+
+import com.example.quizapp.dao.QuestionDao;
+import com.example.quizapp.dao.QuizAttemptDao;
+import com.example.quizapp.dao.QuizDao;
+import com.example.quizapp.dao.QuizQuestionOrderBackfill;
+import com.example.quizapp.model.Question;
+import com.example.quizapp.model.Quiz;
+import com.example.quizapp.model.Response;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({QuizService.class, AnswerKeyCache.class, QuizAttemptWriter.class, QuizAttemptDao.class, QuizQuestionOrderBackfill.class})
+class QuizServiceScoreTest {
+
+    @Autowired
+    private QuizService quizService;
+    @Autowired
+    private QuizDao quizDao;
+    @Autowired
+    private QuestionDao questionDao;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Question> questions = new ArrayList<>();
+    private Integer quizId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 1; i <= 3; i++) {
+            Question question = new Question();
+            question.setQuestionTitle("Question " + i);
+            question.setRightAnswer("right" + i);
+            question.setCategory("java");
+            questions.add(questionDao.save(question));
+        }
+        Quiz quiz = new Quiz();
+        quiz.setTitle("Java");
+        quiz.setQuestions(new ArrayList<>(questions));
+        quizId = quizDao.save(quiz).getId();
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testRepeatedSubmissionsDontTouchTheDatabase() {
+        List<Response> reordered = List.of(
+                response(questions.get(2), "right3"), response(questions.get(0), "right1"), response(questions.get(1), "wrong"));
+
+        assertEquals(2, quizService.calculateResult(quizId, reordered).getBody());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        statistics.clear();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(2, quizService.calculateResult(quizId, reordered).getBody());
+        }
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testUnknownQuizAndForeignQuestion() {
+        assertEquals(HttpStatus.NOT_FOUND, quizService.calculateResult(-1, List.of()).getStatusCode());
+
+        Question other = new Question();
+        other.setRightAnswer("x");
+        other = questionDao.save(other);
+        ResponseEntity<Integer> result = quizService.calculateResult(quizId, List.of(response(other, "x")));
+        assertEquals(HttpStatus.BAD_REQUEST, result.getStatusCode());
+    }
+
+    @Test
+    void testSubmissionsAreRecordedBehindTheResponse() throws InterruptedException {
+        for (int i = 0; i < 5; i++) {
+            quizService.calculateResult(quizId, List.of(response(questions.get(0), "right1")));
+        }
+
+        // the writer commits on its own connection, outside this test's transaction
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (attempts() < 5 && System.currentTimeMillis() < deadline) Thread.sleep(10);
+        assertEquals(5, attempts());
+        assertEquals(5, jdbcTemplate.queryForObject(
+                "SELECT SUM(score) FROM quiz_attempt WHERE quiz_id = ?", Integer.class, quizId));
+    }
+
+    private Integer attempts() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM quiz_attempt WHERE quiz_id = ?", Integer.class, quizId);
+    }
+
+    private static Response response(Question question, String answer) {
+        Response response = new Response();
+        response.setId(question.getId());
+        response.setResponse(answer);
+        return response;
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Component;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Data
 @NoArgsConstructor
@@ -23,6 +25,7 @@ public class JobPost {
     private String postProfile;
     private String postDesc;
     private Integer reqExperience;
+    @JdbcTypeCode(SqlTypes.ARRAY)
     private List<String> postTechStack;
 
 }
\ No newline at end of file
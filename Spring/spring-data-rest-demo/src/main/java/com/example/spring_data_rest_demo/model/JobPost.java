@@ -9,6 +9,8 @@ import org.springframework.stereotype.Component;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Data
 @NoArgsConstructor
@@ -22,6 +24,7 @@ public class JobPost {
     private String postProfile;
     private String postDesc;
     private Integer reqExperience;
+    @JdbcTypeCode(SqlTypes.ARRAY)
     private List<String> postTechStack;
 
 }
\ No newline at end of file
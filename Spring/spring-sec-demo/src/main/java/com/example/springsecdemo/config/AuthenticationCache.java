@@ -0,0 +1,89 @@
+package com.example.springsecdemo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Remembers successful HTTP Basic logins for a short TTL so repeated calls skip BCrypt and the user query.
+// Only an HMAC-SHA256 of the credentials is kept, under a key that is random per process.
+// Past max-size Caffeine evicts the logins least likely to be reused.
+// A login is only stored if the user's password did not change while it was being checked:
+// read generation() before the check and hand it to put().
+@Component
+public class AuthenticationCache {
+
+    private final boolean enabled;
+    private final SecretKeySpec secret;
+    private final Cache<String, Entry> entries;
+    // bumped by invalidate; holds only users whose password changed since startup
+    private final Map<String, Long> generations = new ConcurrentHashMap<>();
+
+    public AuthenticationCache(@Value("${security.auth-cache.enabled:false}") boolean enabled,
+                               @Value("${security.auth-cache.ttl-seconds:60}") long ttlSeconds,
+                               @Value("${security.auth-cache.max-size:10000}") int maxSize) {
+        this.enabled = enabled;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.secret = new SecretKeySpec(key, "HmacSHA256");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Authentication get(String username, String password) {
+        Entry entry = entries.getIfPresent(username);
+        if (entry == null) return null;
+        return MessageDigest.isEqual(entry.digest, digest(username, password)) ? entry.authentication : null;
+    }
+
+    public long generation(String username) {
+        return generations.getOrDefault(username, 0L);
+    }
+
+    // skipped if invalidate ran since generation was read; compute holds the key's lock,
+    // so an invalidate racing with it either sees the entry or the new generation
+    public void put(String username, String password, Authentication authentication, long generation) {
+        byte[] digest = digest(username, password);
+        entries.asMap().compute(username, (name, current) ->
+                generation(name) == generation ? new Entry(digest, authentication) : current);
+    }
+
+    // must be called whenever a user's password changes
+    public void invalidate(String username) {
+        generations.merge(username, 1L, Long::sum);
+        entries.invalidate(username);
+    }
+
+    private byte[] digest(String username, String password) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(secret);
+            mac.update(username.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private record Entry(byte[] digest, Authentication authentication) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.springsecdemo.config;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final AuthenticationCache cache;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, AuthenticationCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (credentials == null) return delegate.authenticate(authentication);
+        String password = credentials.toString();
+
+        Authentication cached = cache.get(username, password);
+        if (cached != null) {
+            // fresh token per request, the cached one is shared between threads
+            UsernamePasswordAuthenticationToken result = UsernamePasswordAuthenticationToken
+                    .authenticated(cached.getPrincipal(), null, cached.getAuthorities());
+            result.setDetails(authentication.getDetails());
+            return result;
+        }
+
+        // read before the check: a password saved while it runs must not be overwritten by this login
+        long generation = cache.generation(username);
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) cache.put(username, password, result, generation);
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -26,6 +26,9 @@ public class SecurityConfig {
     @Autowired
     private UserDetailsService userDetailsService;
 
+    @Autowired
+    private AuthenticationCache authenticationCache;
+
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
@@ -34,6 +37,8 @@ public class SecurityConfig {
         provider.setPasswordEncoder(new BCryptPasswordEncoder(12));
 //        provider.setPasswordEncoder(NoOpPasswordEncoder.getInstance());
 
+        // opt-in: security.auth-cache.enabled=true
+        if (authenticationCache.isEnabled()) return new CachingAuthenticationProvider(provider, authenticationCache);
         return provider;
     }
 
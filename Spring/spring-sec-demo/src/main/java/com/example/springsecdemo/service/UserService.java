@@ -1,5 +1,6 @@
 package com.example.springsecdemo.service;
 
+import com.example.springsecdemo.config.AuthenticationCache;
 import com.example.springsecdemo.dao.UserRepo;
 import com.example.springsecdemo.model.User;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,12 +12,16 @@ public class UserService {
 
     @Autowired
     private UserRepo repo;
+    @Autowired
+    private AuthenticationCache authenticationCache;
     private BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
 
 
     public User saveUser(User user) {
         user.setPassword(encoder.encode(user.getPassword()));
         System.out.println(user.getPassword());
-        return repo.save(user);
+        User saved = repo.save(user);
+        authenticationCache.invalidate(saved.getUsername());
+        return saved;
     }
 }
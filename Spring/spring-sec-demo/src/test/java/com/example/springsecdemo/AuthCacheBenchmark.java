@@ -0,0 +1,53 @@
+package com.example.springsecdemo;
+
+import com.example.springsecdemo.config.AuthenticationCache;
+import com.example.springsecdemo.config.CachingAuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Authenticated requests/sec for repeated HTTP Basic calls, with and without the AuthenticationCache.
+// Same provider setup as SecurityConfig (BCrypt 12); run main() from the IDE, args: [threads] [seconds]
+public class AuthCacheBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int seconds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(12);
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider();
+        dao.setUserDetailsService(new InMemoryUserDetailsManager(
+                User.withUsername("demo").password(encoder.encode("1234")).authorities("USER").build()));
+        dao.setPasswordEncoder(encoder);
+
+        AuthenticationProvider cached = new CachingAuthenticationProvider(dao, new AuthenticationCache(true, 60, 10_000));
+
+        System.out.printf("without cache: %,.1f req/s%n", run(dao, threads, seconds));
+        System.out.printf("with cache   : %,.1f req/s%n", run(cached, threads, seconds));
+    }
+
+    private static double run(AuthenticationProvider provider, int threads, int seconds) throws InterruptedException {
+        LongAdder requests = new LongAdder();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            pool.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    provider.authenticate(UsernamePasswordAuthenticationToken.unauthenticated("demo", "1234"));
+                    requests.increment();
+                }
+            });
+        }
+        pool.shutdown();
+        pool.awaitTermination(seconds + 30, TimeUnit.SECONDS);
+        return requests.sum() / (double) seconds;
+    }
+}
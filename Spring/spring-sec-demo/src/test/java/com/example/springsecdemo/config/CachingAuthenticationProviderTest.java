@@ -0,0 +1,76 @@
+package com.example.springsecdemo.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class CachingAuthenticationProviderTest {
+
+    private AuthenticationProvider delegate;
+    private AuthenticationCache cache;
+    private CachingAuthenticationProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(AuthenticationProvider.class);
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            Authentication request = invocation.getArgument(0);
+            if (!"secret".equals(request.getCredentials())) throw new BadCredentialsException("Bad credentials");
+            return UsernamePasswordAuthenticationToken.authenticated(request.getName(), null, List.of());
+        });
+        cache = new AuthenticationCache(true, 60, 100);
+        provider = new CachingAuthenticationProvider(delegate, cache);
+    }
+
+    @Test
+    void testRepeatedLoginSkipsDelegate() {
+        provider.authenticate(login("secret"));
+        Authentication second = provider.authenticate(login("secret"));
+
+        assertTrue(second.isAuthenticated());
+        verify(delegate, times(1)).authenticate(any());
+    }
+
+    @Test
+    void testWrongPasswordIsNotServedFromCache() {
+        provider.authenticate(login("secret"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("wrong")));
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void testInvalidateForcesFullCheck() {
+        provider.authenticate(login("secret"));
+        cache.invalidate("demo");
+        provider.authenticate(login("secret"));
+
+        verify(delegate, times(2)).authenticate(any());
+    }
+
+    @Test
+    void testPasswordChangeDuringLoginIsNotCached() {
+        // the old password checks out, then the password changes before the login is stored
+        when(delegate.authenticate(any())).thenAnswer(invocation -> {
+            Authentication request = invocation.getArgument(0);
+            cache.invalidate(request.getName());
+            return UsernamePasswordAuthenticationToken.authenticated(request.getName(), null, List.of());
+        });
+        provider.authenticate(login("secret"));
+
+        assertNull(cache.get("demo", "secret"));
+    }
+
+    private static Authentication login(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated("demo", password);
+    }
+}